@@ -0,0 +1,42 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end report rendering for a new user, a year of monthly
+ * submissions and a long history.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PdfReportBenchmark {
+
+    @Param({ "1", "12", "365" })
+    int submissions;
+
+    @Param({ "5" })
+    int tips;
+
+    UserProfile profile;
+
+    @Setup
+    public void setUp() {
+        profile = SyntheticData.userProfile(submissions, tips, 7);
+    }
+
+    @Benchmark
+    public byte[] createPDFReport() throws Exception {
+        return PDFReportCreator.createPDFReport(profile, "monthly");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] createPDFReportContended() throws Exception {
+        return PDFReportCreator.createPDFReport(profile, "monthly");
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionSamplingBenchmark {
+
+    // A catalog-sized bank to sample from, with uneven weights
+    private List<CatalogQuestion> bank;
+
+    @Setup
+    public void setUp() {
+        List<CatalogQuestion> questions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            questions.add(new CatalogQuestion("q" + i, "category" + (i % 15), "Question " + i, "select", List.of(),
+                    1 + i % 4));
+        }
+        bank = List.copyOf(questions);
+    }
+
+    @Benchmark
+    public List<Question> getRandomQuestions() {
+        return CarbonCalculator.getRandomQuestions();
+    }
+
+    @Benchmark
+    public List<Inquiry> generateSampleQuestions() {
+        return EnvironmentalImpactCalculator.generateSampleQuestions();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Question> getRandomQuestionsContended() {
+        return CarbonCalculator.getRandomQuestions();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Inquiry> generateSampleQuestionsContended() {
+        return EnvironmentalImpactCalculator.generateSampleQuestions();
+    }
+
+    @Benchmark
+    public List<CatalogQuestion> sampleWeightedFromBank() {
+        return QuestionSampler.sample(bank, CatalogQuestion::getWeight, 12, ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<CatalogQuestion> sampleWeightedFromBankContended() {
+        return QuestionSampler.sample(bank, CatalogQuestion::getWeight, 12, ThreadLocalRandom.current());
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring hot path: the legacy map based calculators against the table
+ * driven engine, single threaded and with one thread per core.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+    private static final int INPUTS = 4096; // power of two, see next()
+
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        SubmissionData[] submissions;
+        EnvironmentalData[] environmentalData;
+
+        @Setup
+        public void setUp() {
+            submissions = SyntheticData.submissions(INPUTS, 42);
+            environmentalData = SyntheticData.environmentalData(INPUTS, 42);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        int next() {
+            return index++ & (INPUTS - 1);
+        }
+    }
+
+    @Benchmark
+    public CarbonResult calculateCarbonScore(Inputs inputs, Cursor cursor) {
+        return CarbonCalculator.calculateCarbonScore(inputs.submissions[cursor.next()]);
+    }
+
+    @Benchmark
+    public CarbonScore engineScore(Inputs inputs, Cursor cursor) {
+        return CarbonScoringEngine.score(inputs.submissions[cursor.next()]);
+    }
+
+    @Benchmark
+    public ImpactScore calculateImpactScore(Inputs inputs, Cursor cursor) {
+        return EnvironmentalImpactCalculator.calculateImpactScore(inputs.environmentalData[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public CarbonResult calculateCarbonScoreContended(Inputs inputs, Cursor cursor) {
+        return CarbonCalculator.calculateCarbonScore(inputs.submissions[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public CarbonScore engineScoreContended(Inputs inputs, Cursor cursor) {
+        return CarbonScoringEngine.score(inputs.submissions[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ImpactScore calculateImpactScoreContended(Inputs inputs, Cursor cursor) {
+        return EnvironmentalImpactCalculator.calculateImpactScore(inputs.environmentalData[cursor.next()]);
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generators for benchmark inputs. Answers are drawn from the option
+ * sets the survey actually offers, with a small share of skipped questions.
+ */
+final class SyntheticData {
+    private static final double SKIPPED = 0.05;
+
+    private static final String[] TRANSPORT = { "car-gasoline", "car-diesel", "car-electric", "public-transport", "bicycle", "walking", "motorcycle" };
+    private static final String[] FREQUENCY = { "daily", "weekly", "monthly", "rarely", "never" };
+    private static final String[] DISTANCE = { "short", "medium", "long", "very-long" };
+    private static final String[] LEVEL = { "very-low", "low", "medium", "high", "very-high" };
+    private static final String[] DIET = { "vegan", "vegetarian", "pescatarian", "omnivore", "high-meat" };
+    private static final String[] FOOD_WASTE = { "none", "minimal", "some", "moderate", "high" };
+    private static final String[] CLOTHES = { "0", "1-2", "3-5", "6-10", "10+" };
+    private static final String[] RECYCLING = { "always", "often", "sometimes", "rarely", "never" };
+    private static final String[] STREAMING = { "minimal", "moderate", "high", "very-high" };
+    private static final String[] AIR_TRAVEL = { "never", "rarely", "occasionally", "frequently", "very-frequently" };
+    private static final String[] HOME = { "studio", "1-bedroom", "2-bedroom", "3-bedroom", "4+" };
+    private static final String[] HEATING = { "electric", "gas", "oil", "wood", "solar", "heat-pump" };
+    private static final String[] DEVICES = { "1-2", "3-5", "6-10", "10+" };
+    private static final String[] PETS = { "none", "small", "medium", "large", "multiple" };
+    private static final String[] GARDEN = { "none", "basic", "organic", "composting", "sustainable" };
+
+    private static final String[] COMMUTE = { "car-petrol", "car-diesel", "car-hybrid", "public-transport", "bike", "foot", "motorbike" };
+    private static final String[] ENERGY = { "low", "medium", "high", "very-high" };
+    private static final String[] FOOD = { "vegan", "vegetarian", "pescatarian", "omnivore", "meat-heavy" };
+    private static final String[] WASTE = { "none", "minimal", "moderate", "high" };
+
+    private SyntheticData() {
+    }
+
+    static SubmissionData[] submissions(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        SubmissionData[] data = new SubmissionData[count];
+        for (int i = 0; i < count; i++) {
+            SubmissionData d = new SubmissionData();
+            d.transportationType = pick(random, TRANSPORT);
+            d.transportationFrequency = pick(random, FREQUENCY);
+            d.transportationDistance = pick(random, DISTANCE);
+            d.electricityUnits = pick(random, LEVEL);
+            d.renewableEnergy = random.nextInt(4) == 0;
+            d.waterUsage = pick(random, LEVEL);
+            d.dietType = pick(random, DIET);
+            d.foodWasteLevel = pick(random, FOOD_WASTE);
+            d.clothesPerMonth = pick(random, CLOTHES);
+            d.recyclingHabits = pick(random, RECYCLING);
+            d.streamingHabits = pick(random, STREAMING);
+            d.airTravelFreq = pick(random, AIR_TRAVEL);
+            d.applianceUsage = pick(random, STREAMING);
+            d.homeSize = pick(random, HOME);
+            d.heatingType = pick(random, HEATING);
+            d.digitalDevices = pick(random, DEVICES);
+            d.petOwnership = pick(random, PETS);
+            d.gardenPractices = pick(random, GARDEN);
+            data[i] = d;
+        }
+        return data;
+    }
+
+    static EnvironmentalData[] environmentalData(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        EnvironmentalData[] data = new EnvironmentalData[count];
+        for (int i = 0; i < count; i++) {
+            EnvironmentalData d = new EnvironmentalData();
+            d.transportMode = pick(random, COMMUTE);
+            d.transportFrequency = pick(random, FREQUENCY);
+            d.travelDistance = pick(random, DISTANCE);
+            d.energyConsumption = pick(random, ENERGY);
+            d.usesRenewableEnergy = random.nextInt(4) == 0;
+            d.waterConsumption = pick(random, ENERGY);
+            d.foodPreferences = pick(random, FOOD);
+            d.wasteGeneration = pick(random, WASTE);
+            data[i] = d;
+        }
+        return data;
+    }
+
+    static UserProfile userProfile(int submissionCount, int tipCount, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        UserProfile profile = new UserProfile();
+        profile.username = "user-" + seed;
+        profile.email = "user-" + seed + "@example.org";
+        profile.age = String.valueOf(18 + random.nextInt(60));
+        profile.country = "Bangladesh";
+        profile.streakCount = random.nextInt(60);
+        profile.totalPoints = random.nextInt(5000);
+
+        List<SubmissionRecord> records = new ArrayList<>(submissionCount);
+        for (SubmissionData d : submissions(submissionCount, seed)) {
+            CarbonScore score = CarbonScoringEngine.score(d);
+            SubmissionRecord record = new SubmissionRecord();
+            record.emissionScore = score.getTotalScore();
+            record.transportScore = score.get(EmissionCategory.TRANSPORTATION);
+            record.energyScore = score.get(EmissionCategory.ENERGY);
+            record.waterUsageScore = score.get(EmissionCategory.WATER);
+            record.dietScore = score.get(EmissionCategory.DIET);
+            record.wasteScore = score.get(EmissionCategory.WASTE);
+            record.shoppingScore = score.get(EmissionCategory.SHOPPING);
+            record.electronicUsageScore = score.get(EmissionCategory.ELECTRONICS);
+            record.travelScore = score.get(EmissionCategory.TRAVEL);
+            record.applianceScore = score.get(EmissionCategory.APPLIANCE);
+            record.environmentalCategory = score.getImpactCategory();
+            records.add(record);
+        }
+        profile.submissionRecords = records;
+
+        List<SustainabilityTip> tips = new ArrayList<>(tipCount);
+        for (int i = 0; i < tipCount; i++) {
+            SustainabilityTip tip = new SustainabilityTip();
+            tip.title = "Tip " + (i + 1);
+            tip.category = EmissionCategory.of(i % EmissionCategory.COUNT).key();
+            tip.impact = i % 2 == 0 ? "High" : "Medium";
+            tip.details = "Swap one habit in this category for a lower emission alternative for the next four weeks.";
+            tip.reasoning = "This category is one of the largest contributors to your latest score.";
+            tips.add(tip);
+        }
+        profile.sustainabilityTips = tips;
+        return profile;
+    }
+
+    private static String pick(SplittableRandom random, String[] options) {
+        if (random.nextDouble() < SKIPPED) {
+            return null;
+        }
+        return options[random.nextInt(options.length)];
+    }
+}
@@ -2,8 +2,10 @@ package io.github.rawadhossain.GikiZero;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class GikiZeroApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,22 @@
+package io.github.rawadhossain.GikiZero.config;
+
+import io.github.rawadhossain.GikiZero.data.ChatModel;
+import io.github.rawadhossain.GikiZero.data.EchoChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The {@link ChatModel} behind {@code /api/chat}: an echo model unless
+ * another model bean is defined.
+ */
+@Configuration
+public class ChatModelConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ChatModel.class)
+    ChatModel echoChatModel(@Value("${chat.echo.token-delay-ms:0}") long tokenDelayMs) {
+        return new EchoChatModel(tokenDelayMs);
+    }
+}
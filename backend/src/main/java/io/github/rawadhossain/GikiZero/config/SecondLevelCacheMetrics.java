@@ -0,0 +1,38 @@
+package io.github.rawadhossain.GikiZero.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+
+/**
+ * Publishes the Ehcache regions behind Hibernate's second-level cache as
+ * {@code cache.*} meters. Hibernate's own statistics report hits and misses
+ * per region under {@code hibernate.*}; these add evictions, removals and
+ * sizes as the cache itself sees them.
+ */
+@Configuration
+public class SecondLevelCacheMetrics {
+
+    @Bean
+    MeterBinder hibernateCacheRegions(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getCache().getRegionFactory();
+            if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+                return; // second-level cache disabled
+            }
+            CacheManager cacheManager = jcache.getCacheManager();
+            for (String name : cacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, cacheManager.getCache(name), Tags.of("layer", "hibernate"));
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.rawadhossain.GikiZero.config;
+
+import io.github.rawadhossain.GikiZero.data.RuleTipEngine;
+import io.github.rawadhossain.GikiZero.data.TipEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@link TipEngine} behind {@code AiTipService}: the rules in
+ * {@code tips.rules.location} unless another engine bean is defined.
+ * An {@code LlmTipProvider} bean, if present, is used on top of it.
+ */
+@Configuration
+public class TipEngineConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(TipEngine.class)
+    TipEngine ruleTipEngine(@Value("${tips.rules.location:classpath:" + RuleTipEngine.BUILT_IN + "}") Resource rules)
+            throws IOException {
+        try (InputStream in = rules.getInputStream()) {
+            return RuleTipEngine.read(in);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.github.rawadhossain.GikiZero.service.AiTipService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,14 +23,22 @@ public class AiTipController {
     public ResponseEntity<List<AiTip>> createTips(@RequestBody Map<String, Object> request) {
         
         String userId = (String) request.get("userId"); // in Next.js this came from session
-        int totalScore = (int) request.get("totalScore");
         String impactCategory = (String) request.get("impactCategory");
+        // Per-category scores as returned with the submission, e.g. {"transportation": 84.0, ...}
+        Map<String, Number> scores = new HashMap<>();
+        if (request.get("scores") instanceof Map<?, ?> submitted) {
+            submitted.forEach((key, value) -> {
+                if (key instanceof String category && value instanceof Number score) {
+                    scores.put(category, score);
+                }
+            });
+        }
 
        
         User user = new User();
         user.setId(userId);
 
-        List<AiTip> tips = aiTipService.generateTips(user, request.toString(), totalScore, impactCategory);
+        List<AiTip> tips = aiTipService.generateTips(user, impactCategory, scores);
 
         return ResponseEntity.ok(tips);
     }
@@ -0,0 +1,30 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.data.AnalyticsSummary;
+import io.github.rawadhossain.GikiZero.service.AnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    // Latest score, average, trend and per-category averages for week, month, year or all
+    @GetMapping("/{userId}")
+    public ResponseEntity<AnalyticsSummary> getSummary(
+            @PathVariable String userId,
+            @RequestParam(value = "period", defaultValue = "month") String period
+    ) {
+        try {
+            return ResponseEntity.ok(analyticsService.getSummary(userId, period));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
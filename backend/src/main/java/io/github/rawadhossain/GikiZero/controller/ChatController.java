@@ -1,42 +1,68 @@
 package io.github.rawadhossain.GikiZero.controller;
 
-import io.github.rawadhossain.model.Chat;
-import io.github.rawadhossain.service.ChatService;
+import io.github.rawadhossain.GikiZero.data.ChatMessage;
+import io.github.rawadhossain.GikiZero.data.ResolvedSession;
+import io.github.rawadhossain.GikiZero.service.ChatService;
+import io.github.rawadhossain.GikiZero.service.SessionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
-@RequestMapping("/api/chats")
+@RequestMapping("/api/chat")
 public class ChatController {
 
     private final ChatService chatService;
+    private final SessionService sessionService;
 
-    public ChatController(ChatService chatService) {
+    public ChatController(ChatService chatService, SessionService sessionService) {
         this.chatService = chatService;
+        this.sessionService = sessionService;
     }
 
-    @GetMapping
-    public List<Chat> getAllChats() {
-        return chatService.getAllChats();
+    // Ask the assistant; body {"messages": [{"role": "user", "content": ...}, ...]}, reply streamed as token events
+    @PostMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> chat(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody Map<String, Object> request
+    ) {
+        Optional<ResolvedSession> session = sessionService.resolve(SessionController.token(authorization));
+        if (session.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(chatService.stream(session.get().getUserId(), messages(request.get("messages"))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<Chat> getChatById(@PathVariable Long id) {
-        return chatService.getChatById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
-    }
-
-    @PostMapping
-    public Chat createChat(@RequestBody Chat chat) {
-        return chatService.createChat(chat);
-    }
-
-    @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteChat(@PathVariable Long id) {
-        chatService.deleteChat(id);
-        return ResponseEntity.noContent().build();
+    private static List<ChatMessage> messages(Object messages) {
+        if (!(messages instanceof List<?> list)) {
+            throw new IllegalArgumentException("messages must be a list");
+        }
+        List<ChatMessage> conversation = new ArrayList<>();
+        for (Object item : list) {
+            if (!(item instanceof Map<?, ?> message)
+                    || !(message.get("role") instanceof String role)
+                    || !(message.get("content") instanceof String content)) {
+                throw new IllegalArgumentException("Each message needs a role and content");
+            }
+            conversation.add(new ChatMessage(role, content));
+        }
+        return conversation;
     }
 }
@@ -0,0 +1,37 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.service.EmissionFactorService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/emission-factors")
+public class EmissionFactorController {
+
+    private final EmissionFactorService emissionFactorService;
+
+    public EmissionFactorController(EmissionFactorService emissionFactorService) {
+        this.emissionFactorService = emissionFactorService;
+    }
+
+    // Version of the factor model new submissions are scored with
+    @GetMapping
+    public ResponseEntity<Map<String, String>> getVersion() {
+        return ResponseEntity.ok(Map.of("version", emissionFactorService.getModel().getVersion()));
+    }
+
+    // Reload the factor file now instead of waiting for the next poll
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, String>> reload() {
+        try {
+            return ResponseEntity.ok(Map.of("version", emissionFactorService.reload().getVersion()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.data.CatalogQuestion;
+import io.github.rawadhossain.GikiZero.service.QuestionCatalog;
+import io.github.rawadhossain.GikiZero.service.SurveySampler;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/questions")
+public class QuestionController {
+
+    private final QuestionCatalog questionCatalog;
+    private final SurveySampler surveySampler;
+
+    public QuestionController(QuestionCatalog questionCatalog, SurveySampler surveySampler) {
+        this.questionCatalog = questionCatalog;
+        this.surveySampler = surveySampler;
+    }
+
+    // Active questions, optionally only those of one category; served from memory
+    @GetMapping
+    public ResponseEntity<List<CatalogQuestion>> getQuestions(@RequestParam(value = "category", required = false) String category) {
+        return ResponseEntity.ok(category == null
+                ? questionCatalog.getActiveQuestions()
+                : questionCatalog.getActiveQuestions(category));
+    }
+
+    // Weighted random survey: either count questions overall or per-category quotas
+    // given as quota=category:n; pass the same seed again to get the same survey
+    @GetMapping("/sample")
+    public ResponseEntity<List<CatalogQuestion>> sample(
+            @RequestParam(value = "count", defaultValue = "12") int count,
+            @RequestParam(value = "quota", required = false) List<String> quota,
+            @RequestParam(value = "seed", required = false) Long seed
+    ) {
+        try {
+            if (quota == null || quota.isEmpty()) {
+                return ResponseEntity.ok(surveySampler.sample(count, seed));
+            }
+            Map<String, Integer> quotas = new LinkedHashMap<>();
+            for (String entry : quota) {
+                int colon = entry.lastIndexOf(':');
+                if (colon <= 0) {
+                    throw new IllegalArgumentException("Quota must be category:count, was " + entry);
+                }
+                quotas.merge(entry.substring(0, colon), Integer.parseInt(entry.substring(colon + 1)), Integer::sum);
+            }
+            return ResponseEntity.ok(surveySampler.sample(quotas, seed));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.data.CursorPage;
+import io.github.rawadhossain.GikiZero.data.ReportStatus;
+import io.github.rawadhossain.GikiZero.model.Report;
+import io.github.rawadhossain.GikiZero.service.ExportProgress;
+import io.github.rawadhossain.GikiZero.service.ReportExportService;
+import io.github.rawadhossain.GikiZero.service.ReportJobService;
+import io.github.rawadhossain.GikiZero.service.ReportService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+    private final ReportJobService reportJobService;
+    private final ReportExportService reportExportService;
+
+    public ReportController(ReportService reportService, ReportJobService reportJobService,
+                            ReportExportService reportExportService) {
+        this.reportService = reportService;
+        this.reportJobService = reportJobService;
+        this.reportExportService = reportExportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPage<?>> getAllReports(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "full") String view
+    ) {
+        try {
+            return ResponseEntity.ok(reportService.getAllReports(cursor, size, view));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Report> getReportById(@PathVariable String id) {
+        return reportService.getReportById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<CursorPage<?>> getReportsByUser(
+            @PathVariable String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "full") String view
+    ) {
+        try {
+            return ResponseEntity.ok(reportService.getReportsByUser(userId, cursor, size, view));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping
+    public Report createReport(@RequestBody Report report) {
+        return reportService.createReport(report);
+    }
+
+    // Queue a report for {userId, type}; poll /{id}/status, then fetch /{id}/download
+    @PostMapping("/generate")
+    public ResponseEntity<ReportStatus> generateReport(@RequestBody Map<String, String> request) {
+        try {
+            ReportStatus status = reportJobService.submit(request.get("userId"), request.get("type"));
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reports/" + status.getId() + "/status"))
+                    .body(status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+    }
+
+    // Render and stream a report in one request; nothing is stored
+    @GetMapping("/user/{userId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamReport(
+            @PathVariable String userId,
+            @RequestParam(value = "type", defaultValue = "monthly") String type
+    ) {
+        try {
+            reportJobService.checkReport(userId, type);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                reportJobService.writeReport(userId, type, out);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("carbon-footprint-report-" + type + ".pdf").build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/{id}/status")
+    public ResponseEntity<ReportStatus> getReportStatus(@PathVariable String id) {
+        return reportJobService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // 409 while the report is still queued or running, or if it failed; 410 once its file was dropped
+    // because the user's data changed. The file's content hash is its ETag; Range requests are answered
+    // with partial content.
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> downloadReport(@PathVariable String id, WebRequest request) {
+        Report report = reportService.getReportById(id).orElse(null);
+        if (report == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Path file = reportJobService.getFile(report).orElse(null);
+        if (file == null) {
+            return ResponseEntity.status(report.getStatus() == Report.Status.STALE ? HttpStatus.GONE
+                    : HttpStatus.CONFLICT).build();
+        }
+        String etag = "\"" + ReportJobService.contentKey(report) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("carbon-footprint-report-" + report.getType() + ".pdf").build().toString())
+                .body(new FileSystemResource(file));
+    }
+
+    // Starts, or resumes from its checkpoint, an export of every user's report
+    @PostMapping("/export")
+    public ResponseEntity<ExportProgress> startExport(
+            @RequestParam("jobId") String jobId,
+            @RequestParam(value = "type", defaultValue = "quarterly") String type
+    ) {
+        try {
+            return ResponseEntity.accepted().body(reportExportService.start(jobId, type));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<ExportProgress> getExportProgress() {
+        ExportProgress progress = reportExportService.getProgress();
+        return progress != null ? ResponseEntity.ok(progress) : ResponseEntity.notFound().build();
+    }
+
+    // Everything the export has written so far, as one ZIP
+    @GetMapping("/export/{jobId}/archive")
+    public ResponseEntity<StreamingResponseBody> downloadExport(@PathVariable String jobId) throws IOException {
+        try {
+            reportExportService.listReports(jobId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("carbon-footprint-reports-" + jobId + ".zip").build().toString())
+                .body(out -> reportExportService.writeArchive(jobId, out));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteReport(@PathVariable String id) {
+        reportService.deleteReport(id);
+        return ResponseEntity.noContent().build();
+    }
+}
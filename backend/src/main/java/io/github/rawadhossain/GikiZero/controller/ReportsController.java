@@ -1,47 +0,0 @@
-package io.github.rawadhossain.GikiZero.controller;
-
-import io.github.rawadhossain.GikiZero.model.Report;
-import io.github.rawadhossain.GikiZero.service.ReportService;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
-
-@RestController
-@RequestMapping("/api/reports")
-public class ReportController {
-
-    private final ReportService reportService;
-
-    public ReportController(ReportService reportService) {
-        this.reportService = reportService;
-    }
-
-    @GetMapping
-    public List<Report> getAllReports() {
-        return reportService.getAllReports();
-    }
-
-    @GetMapping("/{id}")
-    public ResponseEntity<Report> getReportById(@PathVariable String id) {
-        return reportService.getReportById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
-    }
-
-    @GetMapping("/user/{userId}")
-    public List<Report> getReportsByUser(@PathVariable String userId) {
-        return reportService.getReportsByUser(userId);
-    }
-
-    @PostMapping
-    public Report createReport(@RequestBody Report report) {
-        return reportService.createReport(report);
-    }
-
-    @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteReport(@PathVariable String id) {
-        reportService.deleteReport(id);
-        return ResponseEntity.noContent().build();
-    }
-}
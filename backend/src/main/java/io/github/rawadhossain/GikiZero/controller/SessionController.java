@@ -0,0 +1,45 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.data.ResolvedSession;
+import io.github.rawadhossain.GikiZero.service.SessionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sessions")
+public class SessionController {
+    private static final String BEARER = "Bearer ";
+
+    private final SessionService sessionService;
+
+    public SessionController(SessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    // The session behind "Authorization: Bearer <sessionToken>", 401 if unknown or expired
+    @GetMapping("/current")
+    public ResponseEntity<ResolvedSession> getCurrentSession(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        return sessionService.resolve(token(authorization))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    // Logout
+    @DeleteMapping("/current")
+    public ResponseEntity<Void> deleteCurrentSession(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        sessionService.logout(token(authorization));
+        return ResponseEntity.noContent().build();
+    }
+
+    static String token(String authorization) {
+        return authorization != null && authorization.startsWith(BEARER)
+                ? authorization.substring(BEARER.length()).trim()
+                : null;
+    }
+}
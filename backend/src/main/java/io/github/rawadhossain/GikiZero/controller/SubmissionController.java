@@ -0,0 +1,163 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.data.BatchScore;
+import io.github.rawadhossain.GikiZero.data.CursorPage;
+import io.github.rawadhossain.GikiZero.data.SubmissionBatch;
+import io.github.rawadhossain.GikiZero.data.TrendPoint;
+import io.github.rawadhossain.GikiZero.model.EmissionBucket;
+import io.github.rawadhossain.GikiZero.model.Submission;
+import io.github.rawadhossain.GikiZero.model.UserEmissionRollup;
+import io.github.rawadhossain.GikiZero.service.EmissionBucketService;
+import io.github.rawadhossain.GikiZero.service.RescoreProgress;
+import io.github.rawadhossain.GikiZero.service.RescoreService;
+import io.github.rawadhossain.GikiZero.service.SubmissionService;
+import io.github.rawadhossain.GikiZero.service.UserEmissionRollupService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/submissions")
+public class SubmissionController {
+
+    private final SubmissionService submissionService;
+    private final RescoreService rescoreService;
+    private final UserEmissionRollupService rollupService;
+    private final EmissionBucketService bucketService;
+
+    public SubmissionController(SubmissionService submissionService, RescoreService rescoreService,
+                                UserEmissionRollupService rollupService, EmissionBucketService bucketService) {
+        this.submissionService = submissionService;
+        this.rescoreService = rescoreService;
+        this.rollupService = rollupService;
+        this.bucketService = bucketService;
+    }
+
+    // Every listing is a keyset page: pass nextCursor back as cursor, view=summary for id/createdAt/score only
+    @GetMapping
+    public ResponseEntity<CursorPage<?>> getAllSubmissions(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "full") String view
+    ) {
+        try {
+            return ResponseEntity.ok(submissionService.getAllSubmissions(cursor, size, view));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Submission> getSubmissionById(@PathVariable String id) {
+        return submissionService.getSubmissionById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<CursorPage<?>> getSubmissionsByUser(
+            @PathVariable String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "full") String view
+    ) {
+        try {
+            return ResponseEntity.ok(submissionService.getSubmissionsByUser(userId, cursor, size, view));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Count, average, min, max, latest and per-category sums without reading the history
+    @GetMapping("/user/{userId}/stats")
+    public ResponseEntity<UserEmissionRollup> getUserStats(@PathVariable String userId) {
+        return rollupService.getRollup(userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Daily, weekly or monthly series read from the pre-aggregated buckets, at most submissions.trend.max-buckets long
+    @GetMapping("/user/{userId}/trend")
+    public ResponseEntity<List<TrendPoint>> getTrend(
+            @PathVariable String userId,
+            @RequestParam(value = "granularity", defaultValue = "week") String granularity,
+            @RequestParam("from") String from,
+            @RequestParam("to") String to
+    ) {
+        EmissionBucket.Granularity parsed;
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            parsed = EmissionBucket.Granularity.valueOf(granularity.toUpperCase());
+            fromDate = LocalDate.parse(from);
+            toDate = LocalDate.parse(to);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (fromDate.isAfter(toDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(bucketService.getSeries(userId, parsed, fromDate, toDate));
+        } catch (IllegalArgumentException e) {
+            // more buckets than submissions.trend.max-buckets
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/user/{userId}/since")
+    public ResponseEntity<CursorPage<?>> getSubmissionsSince(
+            @PathVariable String userId,
+            @RequestParam("date") String date,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "full") String view
+    ) {
+        try {
+            LocalDateTime sinceDate = LocalDateTime.parse(date);
+            return ResponseEntity.ok(submissionService.getSubmissionsSince(userId, sinceDate, cursor, size, view));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping
+    public Submission createSubmission(@RequestBody Submission submission) {
+        return submissionService.createSubmission(submission);
+    }
+
+    // Columnar import: one array per answer field plus a userId column
+    @PostMapping("/batch")
+    public ResponseEntity<BatchScore> createSubmissions(@RequestBody SubmissionBatch batch) {
+        try {
+            if (batch.getUserId() == null || batch.getUserId().length != batch.size()) {
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(submissionService.createSubmissions(batch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Starts, or resumes from its checkpoint, a rescore of every submission
+    @PostMapping("/rescore")
+    public ResponseEntity<RescoreProgress> startRescore(@RequestParam("jobId") String jobId) {
+        return ResponseEntity.accepted().body(rescoreService.start(jobId));
+    }
+
+    @GetMapping("/rescore")
+    public ResponseEntity<RescoreProgress> getRescoreProgress() {
+        RescoreProgress progress = rescoreService.getProgress();
+        return progress != null ? ResponseEntity.ok(progress) : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSubmission(@PathVariable String id) {
+        submissionService.deleteSubmission(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,8 +1,12 @@
 package io.github.rawadhossain.GikiZero.controller;
 
+import io.github.rawadhossain.GikiZero.data.CursorPage;
+import io.github.rawadhossain.GikiZero.data.EarnedBadge;
 import io.github.rawadhossain.GikiZero.model.User;
+import io.github.rawadhossain.GikiZero.repository.UserProfile;
 import io.github.rawadhossain.GikiZero.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -14,16 +18,32 @@ public class UserController {
     @Autowired
     private UserService userService;
 
-    // Get all users
+    // Get all users, newest first, one keyset page at a time
     @GetMapping
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<CursorPage<?>> getAllUsers(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "full") String view
+    ) {
+        try {
+            return ResponseEntity.ok(userService.getAllUsers(cursor, size, view));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
-    // Get user by ID
+    // Get user by ID, profile columns only
     @GetMapping("/{id}")
-    public User getUserById(@PathVariable String id) {
-        return userService.getUserById(id).orElse(null);
+    public ResponseEntity<UserProfile> getUserById(@PathVariable String id) {
+        return userService.getUserById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Badges the user has earned
+    @GetMapping("/{id}/badges")
+    public List<EarnedBadge> getUserBadges(@PathVariable String id) {
+        return userService.getBadges(id);
     }
 
     // Create new user
@@ -0,0 +1,37 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.Map;
+
+/**
+ * Dashboard analytics for one user and period, aggregated in the database.
+ * {@code trend} is the latest score minus the one before it, {@code categoryAverages}
+ * is keyed by {@link EmissionCategory#key()}.
+ */
+public class AnalyticsSummary {
+    private final String period;
+    private final long submissionCount;
+    private final Double latestScore;
+    private final String latestImpactCategory;
+    private final double averageScore;
+    private final double trend;
+    private final Map<String, Double> categoryAverages;
+
+    public AnalyticsSummary(String period, long submissionCount, Double latestScore, String latestImpactCategory,
+                            double averageScore, double trend, Map<String, Double> categoryAverages) {
+        this.period = period;
+        this.submissionCount = submissionCount;
+        this.latestScore = latestScore;
+        this.latestImpactCategory = latestImpactCategory;
+        this.averageScore = averageScore;
+        this.trend = trend;
+        this.categoryAverages = categoryAverages;
+    }
+
+    public String getPeriod() { return period; }
+    public long getSubmissionCount() { return submissionCount; }
+    public Double getLatestScore() { return latestScore; }
+    public String getLatestImpactCategory() { return latestImpactCategory; }
+    public double getAverageScore() { return averageScore; }
+    public double getTrend() { return trend; }
+    public Map<String, Double> getCategoryAverages() { return categoryAverages; }
+}
@@ -0,0 +1,57 @@
+package io.github.rawadhossain.GikiZero.data;
+
+/**
+ * Result of {@link CarbonScoringEngine#scoreBatch(SubmissionBatch)}.
+ * {@code scores[category][row]} is laid out by {@link EmissionCategory#ordinal()},
+ * the category keys are repeated in {@code categories} for JSON clients.
+ */
+public final class BatchScore {
+    private final double[][] scores;
+    private final double[] totals;
+    private final String[] impactCategories;
+    private final String modelVersion;
+
+    BatchScore(double[][] scores, double[] totals, String[] impactCategories, String modelVersion) {
+        this.scores = scores;
+        this.totals = totals;
+        this.impactCategories = impactCategories;
+        this.modelVersion = modelVersion;
+    }
+
+    static BatchScore allocate(int rows, String modelVersion) {
+        return new BatchScore(new double[EmissionCategory.COUNT][rows], new double[rows], new String[rows], modelVersion);
+    }
+
+    public int size() {
+        return totals.length;
+    }
+
+    public double get(EmissionCategory category, int row) {
+        return scores[category.ordinal()][row];
+    }
+
+    public String[] getCategories() {
+        String[] keys = new String[EmissionCategory.COUNT];
+        for (EmissionCategory category : EmissionCategory.VALUES) {
+            keys[category.ordinal()] = category.key();
+        }
+        return keys;
+    }
+
+    public double[][] getScores() {
+        return scores;
+    }
+
+    public double[] getTotals() {
+        return totals;
+    }
+
+    public String[] getImpactCategories() {
+        return impactCategories;
+    }
+
+    // Version of the EmissionFactorModel that scored every row
+    public String getModelVersion() {
+        return modelVersion;
+    }
+}
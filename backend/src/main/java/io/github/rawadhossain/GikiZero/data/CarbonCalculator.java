@@ -0,0 +1,45 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+public class CarbonCalculator {
+
+    public static CarbonResult calculateCarbonScore(SubmissionData data) {
+        CarbonScore score = CarbonScoringEngine.score(data);
+        return new CarbonResult(score.toMap(), score.getTotalScore(), score.getImpactCategory());
+    }
+
+    private static final List<Question> QUESTIONS = List.of(
+            new Question(
+                    "transportation",
+                    "Transportation",
+                    "What is your primary mode of transportation?",
+                    "select",
+                    List.of(
+                            new QuestionOption("car-gasoline", "Gasoline Car"),
+                            new QuestionOption("car-diesel", "Diesel Car"),
+                            new QuestionOption("car-electric", "Electric Car"),
+                            new QuestionOption("public-transport", "Public Transport"),
+                            new QuestionOption("bicycle", "Bicycle"),
+                            new QuestionOption("walking", "Walking"),
+                            new QuestionOption("motorcycle", "Motorcycle")
+                    )
+            )
+    );
+
+    public static List<Question> getRandomQuestions() {
+        return getRandomQuestions(ThreadLocalRandom.current());
+    }
+
+    // Same seed, same questions in the same order
+    public static List<Question> getRandomQuestions(long seed) {
+        return getRandomQuestions(new SplittableRandom(seed));
+    }
+
+    private static List<Question> getRandomQuestions(RandomGenerator random) {
+        int size = 10 + random.nextInt(3); // 10–12
+        return QuestionSampler.sample(QUESTIONS, size, random);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.Map;
+
+class CarbonResult {
+    Map<String, Double> scores;
+    double totalScore;
+    String impactCategory;
+
+    public CarbonResult(Map<String, Double> scores, double totalScore, String impactCategory) {
+        this.scores = scores;
+        this.totalScore = totalScore;
+        this.impactCategory = impactCategory;
+    }
+}
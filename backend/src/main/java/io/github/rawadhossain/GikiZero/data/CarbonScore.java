@@ -0,0 +1,53 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Result of {@link CarbonScoringEngine#score(SubmissionData)}. Per-category
+ * scores are kept in a primitive array indexed by {@link EmissionCategory#ordinal()}.
+ */
+public final class CarbonScore {
+    private final double[] scores;
+    private final double totalScore;
+    private final String impactCategory;
+    private final String modelVersion;
+
+    CarbonScore(double[] scores, double totalScore, String impactCategory, String modelVersion) {
+        this.scores = scores;
+        this.totalScore = totalScore;
+        this.impactCategory = impactCategory;
+        this.modelVersion = modelVersion;
+    }
+
+    public double get(EmissionCategory category) {
+        return scores[category.ordinal()];
+    }
+
+    public double getTotalScore() {
+        return totalScore;
+    }
+
+    public String getImpactCategory() {
+        return impactCategory;
+    }
+
+    // Version of the EmissionFactorModel that produced this score
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    // Copy of the scores, the internal array is never handed out
+    public double[] toArray() {
+        return scores.clone();
+    }
+
+    // Same shape as CarbonResult.scores, only built when a caller asks for it
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        for (EmissionCategory category : EmissionCategory.VALUES) {
+            map.put(category.key(), scores[category.ordinal()]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.rawadhossain.GikiZero.data.EmissionCategory.*;
+import static io.github.rawadhossain.GikiZero.data.EmissionFactorModel.lookup;
+
+/**
+ * Table driven replacement for the per-call maps of
+ * {@link CarbonCalculator#calculateCarbonScore(SubmissionData)}.
+ * <p>
+ * Factors come from the current {@link EmissionFactorModel}, compiled into
+ * primitive arrays indexed by category ordinal and option position. Scoring
+ * an answer is a short scan over the option keys of its category, so a call
+ * allocates only the returned {@link CarbonScore} and its score array.
+ * Each call reads the model once, so a concurrent {@link #install} never
+ * mixes two factor versions within one score or batch.
+ */
+public final class CarbonScoringEngine {
+
+    // Smallest row range worth forking off in scoreBatch(batch, pool)
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    private static final AtomicReference<EmissionFactorModel> MODEL =
+            new AtomicReference<>(EmissionFactorModel.builtIn());
+
+    private CarbonScoringEngine() {
+    }
+
+    public static EmissionFactorModel getModel() {
+        return MODEL.get();
+    }
+
+    /**
+     * Makes {@code model} the one used by every score started from now on
+     * and returns the model it replaced.
+     */
+    public static EmissionFactorModel install(EmissionFactorModel model) {
+        return MODEL.getAndSet(model);
+    }
+
+    public static CarbonScore score(SubmissionData data) {
+        return score(data, MODEL.get());
+    }
+
+    public static CarbonScore score(SubmissionData data, EmissionFactorModel model) {
+        double[] scores = new double[EmissionCategory.COUNT];
+        double total = scoreInto(data, scores, model);
+        return new CarbonScore(scores, total, model.impactCategory(total), model.getVersion());
+    }
+
+    /**
+     * Scores {@code data} into {@code scores} (indexed by category ordinal)
+     * and returns the total. Categories without an answer are left at zero.
+     */
+    static double scoreInto(SubmissionData data, double[] scores, EmissionFactorModel model) {
+        if (data.transportationType != null && data.transportationFrequency != null && data.transportationDistance != null) {
+            scores[TRANSPORTATION.ordinal()] = transportation(model, data.transportationType,
+                    data.transportationFrequency, data.transportationDistance);
+        }
+        if (data.electricityUnits != null) {
+            scores[ENERGY.ordinal()] = energy(model, data.electricityUnits, Boolean.TRUE.equals(data.renewableEnergy));
+        }
+
+        answer(scores, model, WATER, data.waterUsage);
+        answer(scores, model, DIET, data.dietType);
+        answer(scores, model, FOOD_WASTE, data.foodWasteLevel);
+        answer(scores, model, SHOPPING, data.clothesPerMonth);
+        answer(scores, model, WASTE, data.recyclingHabits);
+        answer(scores, model, ELECTRONICS, data.streamingHabits);
+        answer(scores, model, TRAVEL, data.airTravelFreq);
+        answer(scores, model, APPLIANCE, data.applianceUsage);
+        answer(scores, model, HOME, data.homeSize);
+        answer(scores, model, HEATING, data.heatingType);
+        answer(scores, model, DIGITAL, data.digitalDevices);
+        answer(scores, model, PETS, data.petOwnership);
+        answer(scores, model, GARDEN, data.gardenPractices);
+
+        double total = 0;
+        for (int i = 0; i < scores.length; i++) {
+            total += scores[i];
+        }
+        return total;
+    }
+
+    /**
+     * Scores every row of a columnar batch. Each category is scored column
+     * at a time into {@code scores[category][row]}, then summed per row.
+     */
+    public static BatchScore scoreBatch(SubmissionBatch batch) {
+        EmissionFactorModel model = MODEL.get();
+        BatchScore result = BatchScore.allocate(batch.size(), model.getVersion());
+        scoreRange(batch, 0, result.size(), result, model);
+        return result;
+    }
+
+    /**
+     * Same as {@link #scoreBatch(SubmissionBatch)}, splitting the rows into
+     * fork/join tasks of at least {@code PARALLEL_THRESHOLD} rows on {@code pool}.
+     */
+    public static BatchScore scoreBatch(SubmissionBatch batch, ForkJoinPool pool) {
+        EmissionFactorModel model = MODEL.get();
+        BatchScore result = BatchScore.allocate(batch.size(), model.getVersion());
+        pool.invoke(new ScoreRangeTask(batch, 0, result.size(), result, model));
+        return result;
+    }
+
+    static void scoreRange(SubmissionBatch batch, int from, int to, BatchScore result, EmissionFactorModel model) {
+        double[][] scores = result.getScores();
+
+        String[] type = batch.getTransportationType();
+        String[] frequency = batch.getTransportationFrequency();
+        String[] distance = batch.getTransportationDistance();
+        if (type != null && frequency != null && distance != null) {
+            double[] column = scores[TRANSPORTATION.ordinal()];
+            for (int r = from; r < to; r++) {
+                if (type[r] != null && frequency[r] != null && distance[r] != null) {
+                    column[r] = transportation(model, type[r], frequency[r], distance[r]);
+                }
+            }
+        }
+
+        String[] electricity = batch.getElectricityUnits();
+        boolean[] renewable = batch.getRenewableEnergy();
+        if (electricity != null) {
+            double[] column = scores[ENERGY.ordinal()];
+            for (int r = from; r < to; r++) {
+                if (electricity[r] != null) {
+                    column[r] = energy(model, electricity[r], renewable != null && renewable[r]);
+                }
+            }
+        }
+
+        answers(scores, model, WATER, batch.getWaterUsage(), from, to);
+        answers(scores, model, DIET, batch.getDietType(), from, to);
+        answers(scores, model, FOOD_WASTE, batch.getFoodWasteLevel(), from, to);
+        answers(scores, model, SHOPPING, batch.getClothesPerMonth(), from, to);
+        answers(scores, model, WASTE, batch.getRecyclingHabits(), from, to);
+        answers(scores, model, ELECTRONICS, batch.getStreamingHabits(), from, to);
+        answers(scores, model, TRAVEL, batch.getAirTravelFreq(), from, to);
+        answers(scores, model, APPLIANCE, batch.getApplianceUsage(), from, to);
+        answers(scores, model, HOME, batch.getHomeSize(), from, to);
+        answers(scores, model, HEATING, batch.getHeatingType(), from, to);
+        answers(scores, model, DIGITAL, batch.getDigitalDevices(), from, to);
+        answers(scores, model, PETS, batch.getPetOwnership(), from, to);
+        answers(scores, model, GARDEN, batch.getGardenPractices(), from, to);
+
+        double[] totals = result.getTotals();
+        for (double[] column : scores) {
+            for (int r = from; r < to; r++) {
+                totals[r] += column[r];
+            }
+        }
+        String[] impactCategories = result.getImpactCategories();
+        for (int r = from; r < to; r++) {
+            impactCategories[r] = model.impactCategory(totals[r]);
+        }
+    }
+
+    // The rules below are shared by scoreInto and scoreRange, so a single score and a batch row can't drift apart
+
+    private static double transportation(EmissionFactorModel model, String type, String frequency, String distance) {
+        return model.factor(TRANSPORTATION, type)
+                * lookup(model.frequencyKeys, model.frequencyFactors, model.frequencyDefault, frequency)
+                * lookup(model.distanceKeys, model.distanceFactors, model.distanceDefault, distance);
+    }
+
+    private static double energy(EmissionFactorModel model, String electricityUnits, boolean renewable) {
+        double energy = model.factor(ENERGY, electricityUnits);
+        return renewable ? energy * model.renewableEnergyFactor : energy;
+    }
+
+    private static void answer(double[] scores, EmissionFactorModel model, EmissionCategory category, String option) {
+        if (option != null) {
+            scores[category.ordinal()] = model.factor(category, option);
+        }
+    }
+
+    private static void answers(double[][] scores, EmissionFactorModel model, EmissionCategory category,
+                                String[] options, int from, int to) {
+        if (options == null) {
+            return;
+        }
+        int c = category.ordinal();
+        String[] keys = model.optionKeys[c];
+        double[] factors = model.factors[c];
+        double fallback = model.defaults[c];
+        double[] column = scores[c];
+        for (int r = from; r < to; r++) {
+            if (options[r] != null) {
+                column[r] = lookup(keys, factors, fallback, options[r]);
+            }
+        }
+    }
+
+    private static final class ScoreRangeTask extends RecursiveAction {
+        private final SubmissionBatch batch;
+        private final int from;
+        private final int to;
+        private final BatchScore result;
+        private final EmissionFactorModel model;
+
+        ScoreRangeTask(SubmissionBatch batch, int from, int to, BatchScore result, EmissionFactorModel model) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+            this.model = model;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                scoreRange(batch, from, to, result, model);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreRangeTask(batch, from, mid, result, model), new ScoreRangeTask(batch, mid, to, result, model));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.List;
+
+/**
+ * Immutable survey question as served from the question catalog, with its
+ * options already parsed out of the stored JSON.
+ */
+public final class CatalogQuestion {
+    private final String id;
+    private final String category;
+    private final String question;
+    private final String type;
+    private final List<Option> options;
+    private final double weight;
+
+    public CatalogQuestion(String id, String category, String question, String type, List<Option> options,
+                           double weight) {
+        this.id = id;
+        this.category = category;
+        this.question = question;
+        this.type = type;
+        this.options = List.copyOf(options);
+        this.weight = weight;
+    }
+
+    public String getId() { return id; }
+    public String getCategory() { return category; }
+    public String getQuestion() { return question; }
+    public String getType() { return type; }
+    public List<Option> getOptions() { return options; }
+    public double getWeight() { return weight; }
+
+    public static final class Option {
+        private final String value;
+        private final String label;
+
+        public Option(String value, String label) {
+            this.value = value;
+            this.label = label;
+        }
+
+        public String getValue() { return value; }
+        public String getLabel() { return label; }
+    }
+}
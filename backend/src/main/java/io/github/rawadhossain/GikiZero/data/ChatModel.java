@@ -0,0 +1,22 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The model behind the chat assistant. Each conversation gets its own
+ * virtual thread, so implementations can simply block on the remote API
+ * while it streams.
+ */
+public interface ChatModel {
+
+    String name();
+
+    /**
+     * Generates the reply to {@code messages}, the system prompt first, and
+     * hands each token to {@code onToken} as soon as it arrives. Should stop
+     * early when the thread is interrupted or {@code onToken} throws, which
+     * is how a closed connection is signalled.
+     */
+    void stream(List<ChatMessage> messages, Consumer<String> onToken) throws Exception;
+}
@@ -0,0 +1,85 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a listing ordered by {@code createdAt DESC, id DESC}. Clients
+ * pass {@code nextCursor} back as {@code cursor} for the following page,
+ * it is null on the last page.
+ */
+public class CursorPage<T> {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorPage<T> of(Window<T> window) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        }
+        return new CursorPage<>(window.getContent(), nextCursor);
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+
+    // Page size from the request, capped at MAX_PAGE_SIZE
+    public static Limit limit(Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return Limit.of(pageSize);
+    }
+
+    /**
+     * Decodes a cursor from a previous page, or starts at the newest row when null.
+     * Throws IllegalArgumentException for cursors this class did not produce.
+     */
+    public static ScrollPosition position(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        int separator = decoded.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        LocalDateTime createdAt;
+        try {
+            createdAt = LocalDateTime.parse(decoded.substring(0, separator));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", createdAt);
+        keys.put("id", decoded.substring(separator + 1));
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String encode(KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        String raw = keys.get("createdAt") + "|" + keys.get("id");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import io.github.rawadhossain.GikiZero.model.Badge;
+import io.github.rawadhossain.GikiZero.model.UserBadge;
+
+import java.time.LocalDateTime;
+
+/**
+ * A badge as shown on a user's profile, together with when it was earned.
+ */
+public class EarnedBadge {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final String icon;
+    private final String category;
+    private final LocalDateTime earnedAt;
+
+    public EarnedBadge(UserBadge userBadge) {
+        Badge badge = userBadge.getBadge();
+        this.id = badge.getId();
+        this.name = badge.getName();
+        this.description = badge.getDescription();
+        this.icon = badge.getIcon();
+        this.category = badge.getCategory();
+        this.earnedAt = userBadge.getEarnedAt();
+    }
+
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public String getIcon() { return icon; }
+    public String getCategory() { return category; }
+    public LocalDateTime getEarnedAt() { return earnedAt; }
+}
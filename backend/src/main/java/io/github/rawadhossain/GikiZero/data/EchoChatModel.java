@@ -0,0 +1,39 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link ChatModel} that answers with the last user message, one word per
+ * token, optionally pausing between tokens. Used when no real model is
+ * configured, and in tests.
+ */
+public final class EchoChatModel implements ChatModel {
+    private final long tokenDelayMs;
+
+    public EchoChatModel(long tokenDelayMs) {
+        this.tokenDelayMs = tokenDelayMs;
+    }
+
+    @Override
+    public String name() {
+        return "echo";
+    }
+
+    @Override
+    public void stream(List<ChatMessage> messages, Consumer<String> onToken) throws InterruptedException {
+        String last = "";
+        for (ChatMessage message : messages) {
+            if (ChatMessage.USER.equals(message.getRole())) {
+                last = message.getContent();
+            }
+        }
+        // split after whitespace, so joining the tokens gives back the text
+        for (String token : ("You said: " + last).split("(?<=\\s)")) {
+            if (tokenDelayMs > 0) {
+                Thread.sleep(tokenDelayMs);
+            }
+            onToken.accept(token);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.rawadhossain.GikiZero.data;
+
+/**
+ * The fifteen scoring categories of the carbon survey. The ordinal of each
+ * constant is the row index into the factor tables of {@link EmissionFactorModel}
+ * and into the score array of {@link CarbonScore}.
+ */
+public enum EmissionCategory {
+    TRANSPORTATION("transportation", "transportation_score"),
+    ENERGY("energy", "energy_score"),
+    WATER("water", "water_score"),
+    DIET("diet", "diet_score"),
+    FOOD_WASTE("foodWaste", "food_waste_score"),
+    SHOPPING("shopping", "shopping_score"),
+    WASTE("waste", "waste_score"),
+    ELECTRONICS("electronics", "electronics_score"),
+    TRAVEL("travel", "travel_score"),
+    APPLIANCE("appliance", "appliance_score"),
+    HOME("home", null),
+    HEATING("heating", null),
+    DIGITAL("digital", null),
+    PETS("pets", null),
+    GARDEN("garden", null);
+
+    static final EmissionCategory[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    // Categories with a score column on the submissions table, in column order
+    public static final EmissionCategory[] STORED = {
+            TRANSPORTATION, ENERGY, WATER, DIET, FOOD_WASTE, SHOPPING, WASTE, ELECTRONICS, TRAVEL, APPLIANCE
+    };
+
+    private final String key;
+    private final String scoreColumn;
+
+    EmissionCategory(String key, String scoreColumn) {
+        this.key = key;
+        this.scoreColumn = scoreColumn;
+    }
+
+    // Key used by the legacy map based results and the frontend
+    public String key() {
+        return key;
+    }
+
+    // Column of the submissions table holding this score, null if not stored
+    public String scoreColumn() {
+        return scoreColumn;
+    }
+
+    public static EmissionCategory of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,169 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One version of the emission factors, compiled from a factor file into the
+ * primitive lookup arrays {@link CarbonScoringEngine} scans.
+ * <p>
+ * A model is immutable once read. The engine holds the current model behind
+ * an atomic reference, so replacing it never disturbs a score that is
+ * already running against the old one.
+ * <p>
+ * Aliases let other survey vocabularies (e.g. {@code car-petrol} for
+ * {@code car-gasoline}) resolve to the same factor; they are compiled in as
+ * extra keys carrying the factor of the key they alias.
+ */
+public final class EmissionFactorModel {
+
+    // Factor file bundled with the application, used until another one is installed
+    public static final String BUILT_IN = "emission-factors.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String version;
+    // [category][option]
+    final String[][] optionKeys;
+    final double[][] factors;
+    // [category], used when an answer is present but unknown
+    final double[] defaults;
+
+    final String[] frequencyKeys;
+    final double[] frequencyFactors;
+    final double frequencyDefault;
+
+    final String[] distanceKeys;
+    final double[] distanceFactors;
+    final double distanceDefault;
+
+    final double renewableEnergyFactor;
+    final double lowImpactLimit;
+    final double mediumImpactLimit;
+
+    private EmissionFactorModel(JsonNode root) {
+        version = required(root, "version").asText();
+        renewableEnergyFactor = required(root, "renewableEnergyFactor").asDouble();
+        JsonNode limits = required(root, "impactLimits");
+        lowImpactLimit = required(limits, "low").asDouble();
+        mediumImpactLimit = required(limits, "medium").asDouble();
+        if (lowImpactLimit > mediumImpactLimit) {
+            throw new IllegalArgumentException("impactLimits.low must not exceed impactLimits.medium");
+        }
+
+        Table frequency = new Table(required(root, "transportationFrequency"), "transportationFrequency");
+        frequencyKeys = frequency.keys;
+        frequencyFactors = frequency.factors;
+        frequencyDefault = frequency.fallback;
+
+        Table distance = new Table(required(root, "transportationDistance"), "transportationDistance");
+        distanceKeys = distance.keys;
+        distanceFactors = distance.factors;
+        distanceDefault = distance.fallback;
+
+        optionKeys = new String[EmissionCategory.COUNT][];
+        factors = new double[EmissionCategory.COUNT][];
+        defaults = new double[EmissionCategory.COUNT];
+        JsonNode categories = required(root, "categories");
+        for (EmissionCategory category : EmissionCategory.VALUES) {
+            Table table = new Table(required(categories, category.key()), "categories." + category.key());
+            optionKeys[category.ordinal()] = table.keys;
+            factors[category.ordinal()] = table.factors;
+            defaults[category.ordinal()] = table.fallback;
+        }
+    }
+
+    /**
+     * Reads a factor file. Every category of {@link EmissionCategory} must be
+     * present; an incomplete or malformed file is rejected as a whole with an
+     * {@link IllegalArgumentException}.
+     */
+    public static EmissionFactorModel read(InputStream in) throws IOException {
+        return new EmissionFactorModel(MAPPER.readTree(in));
+    }
+
+    static EmissionFactorModel builtIn() {
+        try (InputStream in = EmissionFactorModel.class.getClassLoader().getResourceAsStream(BUILT_IN)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + BUILT_IN + " on the classpath");
+            }
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + BUILT_IN, e);
+        }
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public double factor(EmissionCategory category, String option) {
+        int c = category.ordinal();
+        return lookup(optionKeys[c], factors[c], defaults[c], option);
+    }
+
+    String impactCategory(double totalScore) {
+        return totalScore < lowImpactLimit ? "Low" : totalScore < mediumImpactLimit ? "Medium" : "High";
+    }
+
+    static double lookup(String[] keys, double[] factors, double fallback, String option) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(option)) {
+                return factors[i];
+            }
+        }
+        return fallback;
+    }
+
+    private static JsonNode required(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Emission factor file is missing " + field);
+        }
+        return value;
+    }
+
+    // { "default": n, "factors": { key: n, ... }, "aliases": { alias: key, ... } }
+    private static final class Table {
+        final String[] keys;
+        final double[] factors;
+        final double fallback;
+
+        Table(JsonNode node, String name) {
+            fallback = required(node, "default").asDouble();
+            List<String> keyList = new ArrayList<>();
+            List<Double> factorList = new ArrayList<>();
+            for (Map.Entry<String, JsonNode> entry : required(node, "factors").properties()) {
+                if (!entry.getValue().isNumber()) {
+                    throw new IllegalArgumentException(name + "." + entry.getKey() + " is not a number");
+                }
+                keyList.add(entry.getKey());
+                factorList.add(entry.getValue().asDouble());
+            }
+            JsonNode aliases = node.get("aliases");
+            if (aliases != null) {
+                for (Map.Entry<String, JsonNode> entry : aliases.properties()) {
+                    int target = keyList.indexOf(entry.getValue().asText());
+                    if (target < 0) {
+                        throw new IllegalArgumentException(name + " alias " + entry.getKey()
+                                + " points to unknown option " + entry.getValue().asText());
+                    }
+                    keyList.add(entry.getKey());
+                    factorList.add(factorList.get(target));
+                }
+            }
+            keys = keyList.toArray(new String[0]);
+            factors = new double[factorList.size()];
+            for (int i = 0; i < factors.length; i++) {
+                factors[i] = factorList.get(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.rawadhossain.GikiZero.data;
+
+class EnvironmentalData {
+    String transportMode;
+    String transportFrequency;
+    String travelDistance;
+    String energyConsumption;
+    Boolean usesRenewableEnergy;
+    String waterConsumption;
+    String foodPreferences;
+    String meatConsumptionFrequency;
+    String wasteGeneration;
+    String clothingPurchases;
+    String recyclingBehaviour;
+    String onlineStreamingTime;
+    String airTravelFrequency;
+    String applianceUse;
+    String houseSize;
+    String heatingSystem;
+    String wasteManagement;
+    String gadgetCount;
+    String petStatus;
+    String gardeningHabits;
+}
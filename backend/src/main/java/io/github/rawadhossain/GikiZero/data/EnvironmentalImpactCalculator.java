@@ -0,0 +1,74 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+public class EnvironmentalImpactCalculator {
+
+    /**
+     * Scores this survey's answers with the shared {@link EmissionFactorModel}.
+     * Answer keys that differ from {@link CarbonCalculator}'s (e.g.
+     * {@code car-petrol}, {@code bike}) resolve through the model's aliases.
+     */
+    public static ImpactScore calculateImpactScore(EnvironmentalData data) {
+        SubmissionData answers = new SubmissionData();
+        answers.transportationType = data.transportMode;
+        answers.transportationFrequency = data.transportFrequency;
+        answers.transportationDistance = data.travelDistance;
+        answers.electricityUnits = data.energyConsumption;
+        answers.renewableEnergy = data.usesRenewableEnergy;
+        answers.waterUsage = data.waterConsumption;
+        answers.dietType = data.foodPreferences;
+        answers.meatIntakeFreq = data.meatConsumptionFrequency;
+        answers.foodWasteLevel = data.wasteGeneration;
+        answers.clothesPerMonth = data.clothingPurchases;
+        answers.recyclingHabits = data.recyclingBehaviour;
+        answers.streamingHabits = data.onlineStreamingTime;
+        answers.airTravelFreq = data.airTravelFrequency;
+        answers.applianceUsage = data.applianceUse;
+        answers.homeSize = data.houseSize;
+        answers.heatingType = data.heatingSystem;
+        answers.wasteDisposal = data.wasteManagement;
+        answers.digitalDevices = data.gadgetCount;
+        answers.petOwnership = data.petStatus;
+        answers.gardenPractices = data.gardeningHabits;
+
+        CarbonScore score = CarbonScoringEngine.score(answers);
+        return new ImpactScore(score.toMap(), score.getTotalScore(), score.getImpactCategory());
+    }
+
+    // Every option value must be a factor or alias of the category named by its inquiry's id
+    static final List<Inquiry> QUESTIONS = List.of(
+            new Inquiry(
+                    "transportation",
+                    "Transportation",
+                    "How do you primarily commute?",
+                    "select",
+                    List.of(
+                            new Option("car-petrol", "Petrol Car"),
+                            new Option("car-diesel", "Diesel Car"),
+                            new Option("car-hybrid", "Hybrid Car"),
+                            new Option("public-transport", "Public Transport"),
+                            new Option("bike", "Bicycle"),
+                            new Option("foot", "Walking"),
+                            new Option("motorbike", "Motorbike")
+                    )
+            )
+            // Add similar question definitions for other categories (energy, food, water, etc.)
+    );
+
+    public static List<Inquiry> generateSampleQuestions() {
+        return generateSampleQuestions(ThreadLocalRandom.current());
+    }
+
+    // Same seed, same questions in the same order
+    public static List<Inquiry> generateSampleQuestions(long seed) {
+        return generateSampleQuestions(new SplittableRandom(seed));
+    }
+
+    private static List<Inquiry> generateSampleQuestions(RandomGenerator random) {
+        int size = 8 + random.nextInt(5); // 8–12
+        return QuestionSampler.sample(QUESTIONS, size, random);
+    }
+}
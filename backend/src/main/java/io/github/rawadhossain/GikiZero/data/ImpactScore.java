@@ -0,0 +1,15 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.Map;
+
+class ImpactScore {
+    Map<String, Double> categoryScores;
+    double overallScore;
+    String environmentalImpact;
+
+    public ImpactScore(Map<String, Double> categoryScores, double overallScore, String environmentalImpact) {
+        this.categoryScores = categoryScores;
+        this.overallScore = overallScore;
+        this.environmentalImpact = environmentalImpact;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.List;
+
+class Inquiry {
+    String id;
+    String category;
+    String prompt;
+    String inputType; // select or radio
+    List<Option> availableOptions;
+
+    public Inquiry(String id, String category, String prompt, String inputType, List<Option> availableOptions) {
+        this.id = id;
+        this.category = category;
+        this.prompt = prompt;
+        this.inputType = inputType;
+        this.availableOptions = availableOptions;
+    }
+}
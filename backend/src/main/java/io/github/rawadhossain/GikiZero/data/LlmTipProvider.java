@@ -0,0 +1,21 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.List;
+
+/**
+ * A remote language model that writes richer tips than the rules do. Calls
+ * are slow and may fail; they are only ever made off the request thread,
+ * with a timeout, and the rule-based tips are served until one succeeds.
+ */
+public interface LlmTipProvider {
+
+    // Model name and prompt revision, part of the tip cache key
+    String version();
+
+    /**
+     * Tips for {@code profile}. {@code ruleTips} are what the rules came up
+     * with and can be used as a starting point for the prompt. An empty
+     * result keeps the rule-based tips.
+     */
+    List<TipContent> suggest(TipProfile profile, List<TipContent> ruleTips) throws Exception;
+}
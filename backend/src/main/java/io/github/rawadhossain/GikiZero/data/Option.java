@@ -0,0 +1,11 @@
+package io.github.rawadhossain.GikiZero.data;
+
+class Option {
+    String identifier;
+    String label;
+
+    public Option(String identifier, String label) {
+        this.identifier = identifier;
+        this.label = label;
+    }
+}
@@ -1,21 +1,22 @@
-import com.itextpdf.io.font.constants.StandardFonts;
+package io.github.rawadhossain.GikiZero.data;
+
 import com.itextpdf.kernel.colors.Color;
-import com.itextpdf.kernel.colors.DeviceRgb;
-import com.itextpdf.kernel.events.Event;
-import com.itextpdf.kernel.events.IEventHandler;
-import com.itextpdf.kernel.events.PdfDocumentEvent;
+import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Paragraph;
-import com.itextpdf.layout.element.Text;
-import com.itextpdf.layout.properties.TextAlignment;
+
+import io.github.rawadhossain.GikiZero.model.AiTip;
+import io.github.rawadhossain.GikiZero.model.Submission;
+import io.github.rawadhossain.GikiZero.model.User;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -54,29 +55,95 @@ class SustainabilityTip {
 
 public class PDFReportCreator {
 
+    // Bump whenever the layout changes so cached reports are rendered again
+    public static final String TEMPLATE_VERSION = "2";
+
+    /**
+     * Renders the report for {@code user} from stored entities.
+     * {@code submissions} are expected newest first.
+     */
+    public static byte[] createPDFReport(User user, List<Submission> submissions, List<AiTip> tips, String reportType)
+            throws Exception {
+        return createPDFReport(profile(user, submissions, tips), reportType);
+    }
+
+    // Streaming counterpart of createPDFReport(User, List, List, String)
+    public static void writePDFReport(User user, List<Submission> submissions, List<AiTip> tips, String reportType,
+                                      OutputStream out) throws Exception {
+        writePDFReport(profile(user, submissions, tips), reportType, out);
+    }
+
+    static UserProfile profile(User user, List<Submission> submissions, List<AiTip> tips) {
+        UserProfile profile = new UserProfile();
+        profile.username = user.getName();
+        profile.email = user.getEmail();
+        profile.age = user.getAge();
+        profile.country = user.getLocation();
+        profile.streakCount = user.getCurrentStreak();
+        profile.totalPoints = user.getTotalPoints();
+
+        profile.submissionRecords = new ArrayList<>(submissions.size());
+        for (Submission submission : submissions) {
+            SubmissionRecord record = new SubmissionRecord();
+            record.emissionScore = submission.getTotalEmissionScore();
+            record.transportScore = submission.getTransportationScore();
+            record.energyScore = submission.getEnergyScore();
+            record.waterUsageScore = submission.getWaterScore();
+            record.dietScore = submission.getDietScore();
+            record.wasteScore = submission.getWasteScore();
+            record.shoppingScore = submission.getShoppingScore();
+            record.electronicUsageScore = submission.getElectronicsScore();
+            record.travelScore = submission.getTravelScore();
+            record.applianceScore = submission.getApplianceScore();
+            record.environmentalCategory = submission.getImpactCategory();
+            profile.submissionRecords.add(record);
+        }
+
+        profile.sustainabilityTips = new ArrayList<>(tips.size());
+        for (AiTip aiTip : tips) {
+            SustainabilityTip tip = new SustainabilityTip();
+            tip.title = aiTip.getTitle();
+            tip.category = aiTip.getCategory();
+            tip.impact = aiTip.getImpact();
+            tip.details = aiTip.getDescription();
+            tip.reasoning = aiTip.getReasoning();
+            profile.sustainabilityTips.add(tip);
+        }
+        return profile;
+    }
+
     public static byte[] createPDFReport(UserProfile userProfile, String reportType) throws Exception {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(outputStream);
-        PdfDocument pdfDocument = new PdfDocument(writer);
-        Document document = new Document(pdfDocument, PageSize.A4);
-
-        float pageWidth = pdfDocument.getDefaultPageSize().getWidth();
-        float pageHeight = pdfDocument.getDefaultPageSize().getHeight();
+        writePDFReport(userProfile, reportType, outputStream);
+        return outputStream.toByteArray();
+    }
 
-        // Fonts
-        PdfFont boldFont = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
-        PdfFont regularFont = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+    /**
+     * Writes the report straight to {@code out} (a servlet response, a file,
+     * an archive entry). Finished pages are flushed as layout moves on, and
+     * smart mode writes shared resources such as fonts only once, so only
+     * the page being laid out is held in memory. {@code out} is flushed but
+     * left open.
+     */
+    public static void writePDFReport(UserProfile userProfile, String reportType, OutputStream out) throws Exception {
+        PdfWriter writer = new PdfWriter(out);
+        writer.setSmartMode(true);
+        writer.setCloseStream(false);
+        PdfDocument pdfDocument = new PdfDocument(writer);
+        Document document = new Document(pdfDocument, PageSize.A4, true);
 
-        // Colors
-        Color mainColor = new DeviceRgb(34, 139, 34); // Green
-        Color secondaryColor = new DeviceRgb(100, 100, 100); // Grey
-        Color highlightColor = new DeviceRgb(0, 123, 255); // Blue
+        ReportTemplate template = ReportTemplate.apply(pdfDocument);
+        PdfFont boldFont = template.getBoldFont();
+        PdfFont regularFont = template.getRegularFont();
+        Color mainColor = ReportTemplate.MAIN_COLOR;
+        Color secondaryColor = ReportTemplate.SECONDARY_COLOR;
+        Color highlightColor = ReportTemplate.HIGHLIGHT_COLOR;
 
         // Header
         Paragraph header = new Paragraph("🌍 EcoTrack")
                 .setFont(boldFont)
                 .setFontSize(32)
-                .setFontColor(Color.WHITE)
+                .setFontColor(ColorConstants.WHITE)
                 .setMarginTop(10)
                 .setMarginBottom(0);
         document.add(header);
@@ -84,7 +151,7 @@ public class PDFReportCreator {
         Paragraph subHeader = new Paragraph("Environmental Impact Report - " + capitalize(reportType))
                 .setFont(regularFont)
                 .setFontSize(14)
-                .setFontColor(Color.WHITE)
+                .setFontColor(ColorConstants.WHITE)
                 .setMarginTop(0)
                 .setMarginBottom(20);
         document.add(subHeader);
@@ -154,24 +221,8 @@ public class PDFReportCreator {
             }
         }
 
-        // Footer with Page Number
-        pdfDocument.addEventHandler(PdfDocumentEvent.END_PAGE, new IEventHandler() {
-            @Override
-            public void handleEvent(Event event) {
-                int pageNumber = pdfDocument.getPageNumber(((PdfDocumentEvent) event).getPage());
-                float y = pageHeight - 20;
-                Document doc = new Document(pdfDocument);
-                Paragraph footer = new Paragraph("Generated by EcoTrack - Your Environmental Impact Assistant • Page " + pageNumber)
-                        .setFont(regularFont)
-                        .setFontSize(9)
-                        .setFontColor(secondaryColor)
-                        .setTextAlignment(TextAlignment.CENTER);
-                doc.showTextAligned(footer, pageWidth / 2, y, pageNumber, TextAlignment.CENTER, 0);
-            }
-        });
-
         document.close();
-        return outputStream.toByteArray();
+        out.flush();
     }
 
     private static String capitalize(String str) {
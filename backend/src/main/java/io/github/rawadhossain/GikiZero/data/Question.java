@@ -0,0 +1,19 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.List;
+
+class Question {
+    String id;
+    String category;
+    String question;
+    String type; // select or radio
+    List<QuestionOption> options;
+
+    public Question(String id, String category, String question, String type, List<QuestionOption> options) {
+        this.id = id;
+        this.category = category;
+        this.question = question;
+        this.type = type;
+        this.options = options;
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.rawadhossain.GikiZero.data;
+
+class QuestionOption {
+    String value;
+    String label;
+
+    public QuestionOption(String value, String label) {
+        this.value = value;
+        this.label = label;
+    }
+}
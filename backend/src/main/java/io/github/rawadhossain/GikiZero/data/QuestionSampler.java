@@ -0,0 +1,162 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws k of n survey questions without copying or reordering the source
+ * list, so the catalog it samples from can stay immutable and shared.
+ * <p>
+ * The caller supplies the random source: {@code ThreadLocalRandom.current()}
+ * for uncontended draws on request threads, or a {@code SplittableRandom}
+ * built from a seed when the same survey has to be reproduced.
+ */
+public final class QuestionSampler {
+
+    private QuestionSampler() {
+    }
+
+    /**
+     * Uniform sample of {@code k} distinct items, in draw order. Partial
+     * Fisher–Yates over an index array: only the first {@code k} positions
+     * are shuffled.
+     */
+    public static <T> List<T> sample(List<T> items, int k, RandomGenerator random) {
+        int n = items.size();
+        k = Math.max(0, Math.min(k, n));
+        if (k == 0) {
+            return List.of();
+        }
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        Object[] picked = new Object[k];
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int swap = index[i];
+            index[i] = index[j];
+            index[j] = swap;
+            picked[i] = items.get(index[i]);
+        }
+        return wrap(picked);
+    }
+
+    /**
+     * Weighted sample of {@code k} distinct items (Efraimidis–Spirakis): each
+     * item gets the key {@code log(u) / weight} and the {@code k} largest keys
+     * win, kept in a k-sized min-heap. Items with a weight of zero or less are
+     * never drawn. The result is ordered by descending key, which is itself a
+     * weighted random order.
+     */
+    public static <T> List<T> sample(List<T> items, ToDoubleFunction<? super T> weight, int k, RandomGenerator random) {
+        k = Math.max(0, Math.min(k, items.size()));
+        if (k == 0) {
+            return List.of();
+        }
+        double[] keys = new double[k];
+        int[] heap = new int[k];
+        int size = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            double w = weight.applyAsDouble(items.get(i));
+            if (!(w > 0)) {
+                continue;
+            }
+            double key = Math.log(1.0 - random.nextDouble()) / w; // u in (0, 1]
+            if (size < k) {
+                keys[size] = key;
+                heap[size] = i;
+                siftUp(keys, heap, size++);
+            } else if (key > keys[0]) {
+                keys[0] = key;
+                heap[0] = i;
+                siftDown(keys, heap, 0, size);
+            }
+        }
+
+        Object[] picked = new Object[size];
+        for (int last = size - 1; last >= 0; last--) {
+            picked[last] = items.get(heap[0]);
+            keys[0] = keys[last];
+            heap[0] = heap[last];
+            siftDown(keys, heap, 0, last);
+        }
+        return wrap(picked);
+    }
+
+    /**
+     * Draws {@code quotas.get(category)} weighted questions from each
+     * category of {@code byCategory} and shuffles the combined draw.
+     * Categories that have fewer questions than their quota contribute all
+     * of them.
+     */
+    public static <T> List<T> sample(Map<String, List<T>> byCategory, Map<String, Integer> quotas,
+                                     ToDoubleFunction<? super T> weight, RandomGenerator random) {
+        int total = 0;
+        for (Map.Entry<String, Integer> quota : quotas.entrySet()) {
+            total += Math.max(0, Math.min(quota.getValue(), byCategory.getOrDefault(quota.getKey(), List.of()).size()));
+        }
+        Object[] picked = new Object[total];
+        int size = 0;
+        for (Map.Entry<String, Integer> quota : quotas.entrySet()) {
+            List<T> category = byCategory.getOrDefault(quota.getKey(), List.of());
+            for (T item : sample(category, weight, quota.getValue(), random)) {
+                picked[size++] = item;
+            }
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object swap = picked[i];
+            picked[i] = picked[j];
+            picked[j] = swap;
+        }
+        return wrap(size == picked.length ? picked : Arrays.copyOf(picked, size));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> wrap(Object[] picked) {
+        return Collections.unmodifiableList(Arrays.asList((T[]) picked));
+    }
+
+    private static void siftUp(double[] keys, int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= keys[i]) {
+                return;
+            }
+            swap(keys, heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(double[] keys, int[] heap, int i, int size) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (keys[i] <= keys[child]) {
+                return;
+            }
+            swap(keys, heap, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(double[] keys, int[] heap, int a, int b) {
+        double key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int index = heap[a];
+        heap[a] = heap[b];
+        heap[b] = index;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * State and timings of one report generation job.
+ */
+public class ReportStatus {
+    private final String id;
+    private final String type;
+    private final String status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime completedAt;
+    private final Long sizeBytes;
+    private final String error;
+
+    public ReportStatus(String id, String type, String status, LocalDateTime createdAt, LocalDateTime startedAt,
+                        LocalDateTime completedAt, Long sizeBytes, String error) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+        this.sizeBytes = sizeBytes;
+        this.error = error;
+    }
+
+    public String getId() { return id; }
+    public String getType() { return type; }
+    public String getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public Long getSizeBytes() { return sizeBytes; }
+    public String getError() { return error; }
+
+    // Time spent waiting for a worker, null until the job starts
+    public Long getQueuedMillis() {
+        return createdAt != null && startedAt != null ? Duration.between(createdAt, startedAt).toMillis() : null;
+    }
+
+    // Time spent rendering, null until the job finishes
+    public Long getRenderMillis() {
+        return startedAt != null && completedAt != null ? Duration.between(startedAt, completedAt).toMillis() : null;
+    }
+}
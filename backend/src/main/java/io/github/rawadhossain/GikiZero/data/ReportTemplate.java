@@ -0,0 +1,134 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.events.Event;
+import com.itextpdf.kernel.events.IEventHandler;
+import com.itextpdf.kernel.events.PdfDocumentEvent;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The fixed parts of a report page, set up once per document instead of
+ * once per page.
+ * <p>
+ * Font programs are parsed once per JVM and colors are shared constants;
+ * only the thin {@link PdfFont} wrappers, which belong to a single
+ * document, are created per report. The header band and the constant part
+ * of the footer are drawn once into form XObjects, and every page just
+ * places them and writes its page number with a plain {@link PdfCanvas}.
+ */
+final class ReportTemplate implements IEventHandler {
+
+    static final Color MAIN_COLOR = new DeviceRgb(34, 139, 34); // Green
+    static final Color SECONDARY_COLOR = new DeviceRgb(100, 100, 100); // Grey
+    static final Color HIGHLIGHT_COLOR = new DeviceRgb(0, 123, 255); // Blue
+
+    // Built-in Type 1 metrics are immutable once parsed, so every thread can share them
+    private static final FontProgram BOLD_PROGRAM = fontProgram(StandardFonts.HELVETICA_BOLD);
+    private static final FontProgram REGULAR_PROGRAM = fontProgram(StandardFonts.HELVETICA);
+
+    private static final String FOOTER_TEXT = "Generated by EcoTrack - Your Environmental Impact Assistant • Page ";
+    private static final float FOOTER_FONT_SIZE = 9;
+    private static final float FOOTER_BASELINE = 20;
+    // Tall enough for the title and subtitle the report opens with
+    private static final float HEADER_HEIGHT = 110;
+
+    private final PdfFont boldFont;
+    private final PdfFont regularFont;
+    private final PdfFormXObject header;
+    private final PdfFormXObject footer;
+
+    private ReportTemplate(PdfDocument pdfDocument) {
+        boldFont = PdfFontFactory.createFont(BOLD_PROGRAM, PdfEncodings.WINANSI);
+        regularFont = PdfFontFactory.createFont(REGULAR_PROGRAM, PdfEncodings.WINANSI);
+
+        PageSize pageSize = pdfDocument.getDefaultPageSize();
+        header = new PdfFormXObject(new Rectangle(pageSize.getWidth(), HEADER_HEIGHT));
+        new PdfCanvas(header, pdfDocument)
+                .setFillColor(MAIN_COLOR)
+                .rectangle(0, 0, pageSize.getWidth(), HEADER_HEIGHT)
+                .fill()
+                .release();
+
+        float footerWidth = regularFont.getWidth(FOOTER_TEXT, FOOTER_FONT_SIZE);
+        footer = new PdfFormXObject(new Rectangle(footerWidth, FOOTER_FONT_SIZE * 2));
+        new PdfCanvas(footer, pdfDocument)
+                .beginText()
+                .setFontAndSize(regularFont, FOOTER_FONT_SIZE)
+                .setFillColor(SECONDARY_COLOR)
+                .moveText(0, FOOTER_FONT_SIZE / 2)
+                .showText(FOOTER_TEXT)
+                .endText()
+                .release();
+    }
+
+    /**
+     * Sets the template up for {@code pdfDocument} and registers it to draw
+     * the header and footer on every finished page. Call it before adding
+     * content: pages flushed earlier would miss the event.
+     */
+    static ReportTemplate apply(PdfDocument pdfDocument) {
+        ReportTemplate template = new ReportTemplate(pdfDocument);
+        pdfDocument.addEventHandler(PdfDocumentEvent.END_PAGE, template);
+        return template;
+    }
+
+    PdfFont getBoldFont() {
+        return boldFont;
+    }
+
+    PdfFont getRegularFont() {
+        return regularFont;
+    }
+
+    @Override
+    public void handleEvent(Event event) {
+        PdfDocumentEvent pageEvent = (PdfDocumentEvent) event;
+        PdfDocument pdfDocument = pageEvent.getDocument();
+        PdfPage page = pageEvent.getPage();
+        Rectangle pageSize = page.getPageSize();
+        int pageNumber = pdfDocument.getPageNumber(page);
+
+        if (pageNumber == 1) {
+            // Under the page content, so the white title stays on top
+            new PdfCanvas(page.newContentStreamBefore(), page.getResources(), pdfDocument)
+                    .addXObjectAt(header, pageSize.getLeft(), pageSize.getTop() - HEADER_HEIGHT)
+                    .release();
+        }
+
+        String number = String.valueOf(pageNumber);
+        float width = footer.getWidth() + regularFont.getWidth(number, FOOTER_FONT_SIZE);
+        float x = pageSize.getLeft() + (pageSize.getWidth() - width) / 2;
+        new PdfCanvas(page)
+                .addXObjectAt(footer, x, FOOTER_BASELINE - FOOTER_FONT_SIZE / 2)
+                .beginText()
+                .setFontAndSize(regularFont, FOOTER_FONT_SIZE)
+                .setFillColor(SECONDARY_COLOR)
+                .moveText(x + footer.getWidth(), FOOTER_BASELINE)
+                .showText(number)
+                .endText()
+                .release();
+    }
+
+    private static FontProgram fontProgram(String name) {
+        try {
+            return FontProgramFactory.createFont(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load font " + name, e);
+        }
+    }
+}
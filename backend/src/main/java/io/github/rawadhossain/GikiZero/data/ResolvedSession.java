@@ -0,0 +1,23 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A valid session as held by the session cache: just the ids and expiry,
+ * never the entity or the token itself.
+ */
+public class ResolvedSession {
+    private final String sessionId;
+    private final String userId;
+    private final LocalDateTime expires;
+
+    public ResolvedSession(String sessionId, String userId, LocalDateTime expires) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.expires = expires;
+    }
+
+    public String getSessionId() { return sessionId; }
+    public String getUserId() { return userId; }
+    public LocalDateTime getExpires() { return expires; }
+}
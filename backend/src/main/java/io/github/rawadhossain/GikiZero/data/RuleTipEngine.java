@@ -0,0 +1,145 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Rule-based {@link TipEngine} driven by a tip file (see {@code tip-rules.json}).
+ * <p>
+ * Categories are ranked by how much they contribute to the profile, the
+ * user's impact category first, and the top {@code maxTips} with a non-zero
+ * score each get one tip: the one with the highest {@code minScore} the
+ * category's score reaches. A tip's impact is High, Medium or Low by the
+ * category's share of the total score.
+ */
+public final class RuleTipEngine implements TipEngine {
+
+    // Rule file bundled with the application
+    public static final String BUILT_IN = "tip-rules.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String version;
+    private final int maxTips;
+    private final double highShare;
+    private final double mediumShare;
+    // [category], rules ordered by minScore descending
+    private final String[] labels;
+    private final Rule[][] rules;
+
+    private RuleTipEngine(JsonNode root) {
+        version = required(root, "version").asText();
+        maxTips = required(root, "maxTips").asInt();
+        JsonNode shares = required(root, "impactShares");
+        highShare = required(shares, "high").asDouble();
+        mediumShare = required(shares, "medium").asDouble();
+        if (mediumShare > highShare) {
+            throw new IllegalArgumentException("impactShares.medium must not exceed impactShares.high");
+        }
+
+        labels = new String[EmissionCategory.COUNT];
+        rules = new Rule[EmissionCategory.COUNT][];
+        JsonNode categories = required(root, "categories");
+        for (EmissionCategory category : EmissionCategory.VALUES) {
+            JsonNode node = required(categories, category.key());
+            labels[category.ordinal()] = required(node, "label").asText();
+            JsonNode tips = required(node, "tips");
+            if (!tips.isArray() || tips.isEmpty()) {
+                throw new IllegalArgumentException("Tip file has no tips for " + category.key());
+            }
+            Rule[] categoryRules = new Rule[tips.size()];
+            for (int i = 0; i < categoryRules.length; i++) {
+                categoryRules[i] = new Rule(tips.get(i));
+            }
+            Arrays.sort(categoryRules, Comparator.comparingDouble((Rule rule) -> rule.minScore).reversed());
+            rules[category.ordinal()] = categoryRules;
+        }
+    }
+
+    /**
+     * Reads a tip file. Every category of {@link EmissionCategory} needs at
+     * least one tip; an incomplete or malformed file is rejected as a whole
+     * with an {@link IllegalArgumentException}.
+     */
+    public static RuleTipEngine read(InputStream in) throws IOException {
+        return new RuleTipEngine(MAPPER.readTree(in));
+    }
+
+    @Override
+    public String version() {
+        return "rules-" + version;
+    }
+
+    @Override
+    public List<TipContent> generate(TipProfile profile) {
+        List<EmissionCategory> ranked = new ArrayList<>(Arrays.asList(EmissionCategory.VALUES));
+        // stable sort, so equal scores keep category order
+        ranked.sort(Comparator.comparingDouble((EmissionCategory category) -> profile.get(category)).reversed());
+        EmissionCategory named = null;
+        for (EmissionCategory category : EmissionCategory.VALUES) {
+            if (category.key().equalsIgnoreCase(profile.getImpactCategory())) {
+                named = category;
+            }
+        }
+        if (named != null) {
+            ranked.remove(named);
+            ranked.add(0, named);
+        }
+
+        List<TipContent> tips = new ArrayList<>();
+        for (EmissionCategory category : ranked) {
+            if (tips.size() == maxTips) {
+                break;
+            }
+            double score = profile.get(category);
+            if (score <= 0 && category != named) {
+                continue;
+            }
+            Rule rule = pick(rules[category.ordinal()], score);
+            double share = profile.getTotal() > 0 ? score / profile.getTotal() : 0;
+            String impact = share >= highShare ? "High" : share >= mediumShare ? "Medium" : "Low";
+            tips.add(new TipContent(rule.title, rule.description, labels[category.ordinal()], impact, rule.reasoning));
+        }
+        return tips;
+    }
+
+    // Highest threshold the score reaches, or the lowest rule if it reaches none
+    private static Rule pick(Rule[] rules, double score) {
+        for (Rule rule : rules) {
+            if (score >= rule.minScore) {
+                return rule;
+            }
+        }
+        return rules[rules.length - 1];
+    }
+
+    private static JsonNode required(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Tip file is missing " + field);
+        }
+        return value;
+    }
+
+    // { "minScore": n, "title": ..., "description": ..., "reasoning": ... }
+    private static final class Rule {
+        final double minScore;
+        final String title;
+        final String description;
+        final String reasoning;
+
+        Rule(JsonNode node) {
+            minScore = required(node, "minScore").asDouble();
+            title = required(node, "title").asText();
+            description = required(node, "description").asText();
+            reasoning = required(node, "reasoning").asText();
+        }
+    }
+}
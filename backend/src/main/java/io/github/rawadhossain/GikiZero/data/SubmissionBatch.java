@@ -0,0 +1,141 @@
+package io.github.rawadhossain.GikiZero.data;
+
+/**
+ * Columnar block of survey answers: one array per question of
+ * {@link SubmissionData}, all of the same length, row {@code i} of every
+ * array belonging to the same submission. A missing column means the
+ * question was not asked for any row.
+ */
+public class SubmissionBatch {
+    private String[] userId;
+    private String[] transportationType;
+    private String[] transportationFrequency;
+    private String[] transportationDistance;
+    private String[] electricityUnits;
+    private boolean[] renewableEnergy;
+    private String[] waterUsage;
+    private String[] dietType;
+    private String[] meatIntakeFreq;
+    private String[] foodWasteLevel;
+    private String[] clothesPerMonth;
+    private String[] recyclingHabits;
+    private String[] streamingHabits;
+    private String[] airTravelFreq;
+    private String[] applianceUsage;
+    private String[] homeSize;
+    private String[] heatingType;
+    private String[] wasteDisposal;
+    private String[] digitalDevices;
+    private String[] petOwnership;
+    private String[] gardenPractices;
+
+    /**
+     * Number of rows, checking that every present column has the same length.
+     */
+    public int size() {
+        int size = -1;
+        for (Object column : new Object[] { userId, transportationType, transportationFrequency, transportationDistance,
+                electricityUnits, renewableEnergy, waterUsage, dietType, meatIntakeFreq, foodWasteLevel, clothesPerMonth,
+                recyclingHabits, streamingHabits, airTravelFreq, applianceUsage, homeSize, heatingType, wasteDisposal,
+                digitalDevices, petOwnership, gardenPractices }) {
+            if (column == null) {
+                continue;
+            }
+            int length = column instanceof boolean[] flags ? flags.length : ((Object[]) column).length;
+            if (size == -1) {
+                size = length;
+            } else if (size != length) {
+                throw new IllegalArgumentException("All answer columns must have the same length, got " + size + " and " + length);
+            }
+        }
+        return Math.max(size, 0);
+    }
+
+    /**
+     * This batch without the answers a submissions row has no column for,
+     * i.e. only those {@link SubmissionData#of} reads back from a stored
+     * submission, so scoring it gives the scores a rescore would. The
+     * columns are shared, not copied.
+     */
+    public SubmissionBatch storedAnswers() {
+        SubmissionBatch stored = new SubmissionBatch();
+        stored.userId = userId;
+        stored.transportationType = transportationType;
+        stored.transportationFrequency = transportationFrequency;
+        stored.transportationDistance = transportationDistance;
+        stored.electricityUnits = electricityUnits;
+        stored.renewableEnergy = renewableEnergy;
+        stored.waterUsage = waterUsage;
+        stored.dietType = dietType;
+        stored.foodWasteLevel = foodWasteLevel;
+        stored.clothesPerMonth = clothesPerMonth;
+        stored.recyclingHabits = recyclingHabits;
+        stored.streamingHabits = streamingHabits;
+        stored.airTravelFreq = airTravelFreq;
+        stored.applianceUsage = applianceUsage;
+        return stored;
+    }
+
+    public String[] getUserId() { return userId; }
+    public void setUserId(String[] userId) { this.userId = userId; }
+
+    public String[] getTransportationType() { return transportationType; }
+    public void setTransportationType(String[] transportationType) { this.transportationType = transportationType; }
+
+    public String[] getTransportationFrequency() { return transportationFrequency; }
+    public void setTransportationFrequency(String[] transportationFrequency) { this.transportationFrequency = transportationFrequency; }
+
+    public String[] getTransportationDistance() { return transportationDistance; }
+    public void setTransportationDistance(String[] transportationDistance) { this.transportationDistance = transportationDistance; }
+
+    public String[] getElectricityUnits() { return electricityUnits; }
+    public void setElectricityUnits(String[] electricityUnits) { this.electricityUnits = electricityUnits; }
+
+    public boolean[] getRenewableEnergy() { return renewableEnergy; }
+    public void setRenewableEnergy(boolean[] renewableEnergy) { this.renewableEnergy = renewableEnergy; }
+
+    public String[] getWaterUsage() { return waterUsage; }
+    public void setWaterUsage(String[] waterUsage) { this.waterUsage = waterUsage; }
+
+    public String[] getDietType() { return dietType; }
+    public void setDietType(String[] dietType) { this.dietType = dietType; }
+
+    public String[] getMeatIntakeFreq() { return meatIntakeFreq; }
+    public void setMeatIntakeFreq(String[] meatIntakeFreq) { this.meatIntakeFreq = meatIntakeFreq; }
+
+    public String[] getFoodWasteLevel() { return foodWasteLevel; }
+    public void setFoodWasteLevel(String[] foodWasteLevel) { this.foodWasteLevel = foodWasteLevel; }
+
+    public String[] getClothesPerMonth() { return clothesPerMonth; }
+    public void setClothesPerMonth(String[] clothesPerMonth) { this.clothesPerMonth = clothesPerMonth; }
+
+    public String[] getRecyclingHabits() { return recyclingHabits; }
+    public void setRecyclingHabits(String[] recyclingHabits) { this.recyclingHabits = recyclingHabits; }
+
+    public String[] getStreamingHabits() { return streamingHabits; }
+    public void setStreamingHabits(String[] streamingHabits) { this.streamingHabits = streamingHabits; }
+
+    public String[] getAirTravelFreq() { return airTravelFreq; }
+    public void setAirTravelFreq(String[] airTravelFreq) { this.airTravelFreq = airTravelFreq; }
+
+    public String[] getApplianceUsage() { return applianceUsage; }
+    public void setApplianceUsage(String[] applianceUsage) { this.applianceUsage = applianceUsage; }
+
+    public String[] getHomeSize() { return homeSize; }
+    public void setHomeSize(String[] homeSize) { this.homeSize = homeSize; }
+
+    public String[] getHeatingType() { return heatingType; }
+    public void setHeatingType(String[] heatingType) { this.heatingType = heatingType; }
+
+    public String[] getWasteDisposal() { return wasteDisposal; }
+    public void setWasteDisposal(String[] wasteDisposal) { this.wasteDisposal = wasteDisposal; }
+
+    public String[] getDigitalDevices() { return digitalDevices; }
+    public void setDigitalDevices(String[] digitalDevices) { this.digitalDevices = digitalDevices; }
+
+    public String[] getPetOwnership() { return petOwnership; }
+    public void setPetOwnership(String[] petOwnership) { this.petOwnership = petOwnership; }
+
+    public String[] getGardenPractices() { return gardenPractices; }
+    public void setGardenPractices(String[] gardenPractices) { this.gardenPractices = gardenPractices; }
+}
@@ -0,0 +1,45 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import io.github.rawadhossain.GikiZero.model.Submission;
+
+public class SubmissionData {
+    String transportationType;
+    String transportationFrequency;
+    String transportationDistance;
+    String electricityUnits;
+    Boolean renewableEnergy;
+    String waterUsage;
+    String dietType;
+    String meatIntakeFreq;
+    String foodWasteLevel;
+    String clothesPerMonth;
+    String recyclingHabits;
+    String streamingHabits;
+    String airTravelFreq;
+    String applianceUsage;
+    String homeSize;
+    String heatingType;
+    String wasteDisposal;
+    String digitalDevices;
+    String petOwnership;
+    String gardenPractices;
+
+    // The answers a stored Submission has columns for; the rest stay unanswered
+    public static SubmissionData of(Submission submission) {
+        SubmissionData data = new SubmissionData();
+        data.transportationType = submission.getTransportationType();
+        data.transportationFrequency = submission.getTransportationFrequency();
+        data.transportationDistance = submission.getTransportationDistance();
+        data.electricityUnits = submission.getElectricityUnits();
+        data.renewableEnergy = submission.isRenewableEnergy();
+        data.waterUsage = submission.getWaterUsage();
+        data.dietType = submission.getDietType();
+        data.foodWasteLevel = submission.getFoodWasteLevel();
+        data.clothesPerMonth = submission.getClothesPerMonth();
+        data.recyclingHabits = submission.getRecyclingHabits();
+        data.streamingHabits = submission.getStreamingHabits();
+        data.airTravelFreq = submission.getAirTravelFreq();
+        data.applianceUsage = submission.getApplianceUsage();
+        return data;
+    }
+}
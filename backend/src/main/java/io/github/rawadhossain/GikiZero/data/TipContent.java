@@ -0,0 +1,56 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import io.github.rawadhossain.GikiZero.model.AiTip;
+
+import java.util.Objects;
+
+/**
+ * The user-independent text of a tip. Generated tips are cached as these and
+ * shared by every user with the same score profile.
+ */
+public class TipContent {
+    private final String title;
+    private final String description;
+    private final String category;
+    private final String impact;
+    private final String reasoning;
+
+    public TipContent(String title, String description, String category, String impact, String reasoning) {
+        this.title = title;
+        this.description = description;
+        this.category = category;
+        this.impact = impact;
+        this.reasoning = reasoning;
+    }
+
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getCategory() { return category; }
+    public String getImpact() { return impact; }
+    public String getReasoning() { return reasoning; }
+
+    // Identifies the stored tip this content replaces
+    public String key() {
+        return category + "\u0000" + title;
+    }
+
+    public static String keyOf(AiTip tip) {
+        return tip.getCategory() + "\u0000" + tip.getTitle();
+    }
+
+    public boolean sameAs(AiTip tip) {
+        return key().equals(keyOf(tip))
+                && Objects.equals(description, tip.getDescription())
+                && Objects.equals(impact, tip.getImpact())
+                && Objects.equals(reasoning, tip.getReasoning());
+    }
+
+    // Copies the text onto a stored tip, leaving its id, user and createdAt alone
+    public void applyTo(AiTip tip) {
+        tip.setTitle(title);
+        tip.setDescription(description);
+        tip.setCategory(category);
+        tip.setImpact(impact);
+        tip.setReasoning(reasoning);
+    }
+}
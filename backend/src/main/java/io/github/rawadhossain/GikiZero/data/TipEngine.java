@@ -0,0 +1,16 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.util.List;
+
+/**
+ * Turns a score profile into tips. Implementations must be deterministic
+ * for a given {@link #version()}: results are cached per profile and
+ * shared between users.
+ */
+public interface TipEngine {
+
+    // Part of the tip cache key; change it whenever the output for a profile can change
+    String version();
+
+    List<TipContent> generate(TipProfile profile);
+}
@@ -0,0 +1,39 @@
+package io.github.rawadhossain.GikiZero.data;
+
+/**
+ * What a {@link TipEngine} gets to see of a user: the impact category they
+ * were given and their per-category scores, indexed by
+ * {@link EmissionCategory#ordinal()}. The scores are already rounded down
+ * to the tip cache's buckets, so two users with the same profile always
+ * get the same tips.
+ */
+public final class TipProfile {
+    private final String impactCategory;
+    private final double[] scores;
+    private final double total;
+
+    public TipProfile(String impactCategory, double[] scores) {
+        if (scores.length != EmissionCategory.COUNT) {
+            throw new IllegalArgumentException("Expected " + EmissionCategory.COUNT + " scores, got " + scores.length);
+        }
+        this.impactCategory = impactCategory;
+        this.scores = scores.clone();
+        double sum = 0;
+        for (double score : scores) {
+            sum += score;
+        }
+        this.total = sum;
+    }
+
+    public String getImpactCategory() {
+        return impactCategory;
+    }
+
+    public double get(EmissionCategory category) {
+        return scores[category.ordinal()];
+    }
+
+    public double getTotal() {
+        return total;
+    }
+}
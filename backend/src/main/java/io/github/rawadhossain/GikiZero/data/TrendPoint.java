@@ -0,0 +1,47 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One bucket of a user's emission trend: stats for the total score and for
+ * every stored category, keyed by {@link EmissionCategory#key()}.
+ */
+public class TrendPoint {
+    private final LocalDate bucketStart;
+    private Stats total;
+    private final Map<String, Stats> categories = new LinkedHashMap<>();
+
+    public TrendPoint(LocalDate bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public LocalDate getBucketStart() { return bucketStart; }
+    public Stats getTotal() { return total; }
+    public void setTotal(Stats total) { this.total = total; }
+    public Map<String, Stats> getCategories() { return categories; }
+
+    public static class Stats {
+        private final long count;
+        private final double sum;
+        private final Double min;
+        private final Double max;
+
+        public Stats(long count, double sum, Double min, Double max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getCount() { return count; }
+        public double getSum() { return sum; }
+        public Double getMin() { return min; }
+        public Double getMax() { return max; }
+
+        public double getAverage() {
+            return count > 0 ? sum / count : 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.rawadhossain.GikiZero.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated submission scores for one user, one time bucket and one
+ * category ({@code "total"} or an emission category key). A trend query is
+ * a single range scan of the primary key, which leads with
+ * {@code (userId, granularity, bucketStart)}.
+ */
+@Entity
+@Table(name = "emission_buckets")
+@IdClass(EmissionBucketId.class)
+public class EmissionBucket {
+    public static final String TOTAL = "total";
+
+    public enum Granularity { DAY, WEEK, MONTH }
+
+    @Id
+    private String userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Granularity granularity;
+
+    // First day of the bucket: the day, the ISO week's Monday or the 1st of the month
+    @Id
+    private LocalDate bucketStart;
+
+    @Id
+    private String category;
+
+    private long submissionCount;
+    private double scoreSum;
+    private Double minScore;
+    private Double maxScore;
+
+    // Getters and setters
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+
+    public Granularity getGranularity() { return granularity; }
+    public void setGranularity(Granularity granularity) { this.granularity = granularity; }
+
+    public LocalDate getBucketStart() { return bucketStart; }
+    public void setBucketStart(LocalDate bucketStart) { this.bucketStart = bucketStart; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public long getSubmissionCount() { return submissionCount; }
+    public void setSubmissionCount(long submissionCount) { this.submissionCount = submissionCount; }
+
+    public double getScoreSum() { return scoreSum; }
+    public void setScoreSum(double scoreSum) { this.scoreSum = scoreSum; }
+
+    public Double getMinScore() { return minScore; }
+    public void setMinScore(Double minScore) { this.minScore = minScore; }
+
+    public Double getMaxScore() { return maxScore; }
+    public void setMaxScore(Double maxScore) { this.maxScore = maxScore; }
+}
@@ -0,0 +1,35 @@
+package io.github.rawadhossain.GikiZero.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class EmissionBucketId implements Serializable {
+    private String userId;
+    private EmissionBucket.Granularity granularity;
+    private LocalDate bucketStart;
+    private String category;
+
+    public EmissionBucketId() {
+    }
+
+    public EmissionBucketId(String userId, EmissionBucket.Granularity granularity, LocalDate bucketStart, String category) {
+        this.userId = userId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.category = category;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EmissionBucketId other)) return false;
+        return Objects.equals(userId, other.userId) && granularity == other.granularity
+                && Objects.equals(bucketStart, other.bucketStart) && Objects.equals(category, other.category);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, granularity, bucketStart, category);
+    }
+}
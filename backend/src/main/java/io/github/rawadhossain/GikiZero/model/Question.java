@@ -1,8 +1,13 @@
 package io.github.rawadhossain.GikiZero.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// Read-mostly; cached in the second-level cache, see ehcache.xml
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Question {
     @Id
     private String id;
@@ -16,4 +21,20 @@ public class Question {
 
     private double weight = 1.0;
     private boolean isActive = true;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public String getQuestion() { return question; }
+    public void setQuestion(String question) { this.question = question; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getOptions() { return options; }
+    public void setOptions(String options) { this.options = options; }
+    public double getWeight() { return weight; }
+    public void setWeight(double weight) { this.weight = weight; }
+    public boolean isActive() { return isActive; }
+    public void setActive(boolean active) { isActive = active; }
 }
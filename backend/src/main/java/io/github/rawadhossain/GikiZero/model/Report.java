@@ -1,13 +1,20 @@
 package io.github.rawadhossain.GikiZero.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "reports")
+@Table(name = "reports", indexes = {
+        @Index(name = "idx_reports_user_created", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_reports_created", columnList = "created_at DESC, id DESC")
+})
 public class Report {
 
+    // STALE: completed, but its file was dropped from the report cache; the client has to request a new report
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED, STALE }
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID) // auto-generate UUID
     private String id;
@@ -18,6 +25,19 @@ public class Report {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Generation job state; null for reports registered without a job
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Long sizeBytes;
+
+    @Column(length = 1000)
+    private String error;
+
+    // Written as {"user": {"id": ...}}, read back as userId without loading the user
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -55,10 +75,54 @@ public class Report {
         this.createdAt = createdAt;
     }
 
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
     public User getUser() {
         return user;
     }
 
+    public String getUserId() {
+        return user != null ? user.getId() : null;
+    }
+
     public void setUser(User user) {
         this.user = user;
     }
@@ -0,0 +1,43 @@
+package io.github.rawadhossain.GikiZero.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk rescoring job, committed together with every chunk
+ * of updated submissions so a restarted job resumes after {@code lastSubmissionId}.
+ */
+@Entity
+@Table(name = "rescore_checkpoints")
+public class RescoreCheckpoint {
+
+    @Id
+    private String jobId;
+
+    private String lastSubmissionId;
+
+    private long rowsDone;
+
+    private LocalDateTime startedAt = LocalDateTime.now();
+    private LocalDateTime updatedAt = LocalDateTime.now();
+    private LocalDateTime completedAt;
+
+    // Getters and setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getLastSubmissionId() { return lastSubmissionId; }
+    public void setLastSubmissionId(String lastSubmissionId) { this.lastSubmissionId = lastSubmissionId; }
+
+    public long getRowsDone() { return rowsDone; }
+    public void setRowsDone(long rowsDone) { this.rowsDone = rowsDone; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "idx_session_user", columnList = "user_id"),
+        @Index(name = "idx_session_expires", columnList = "expires")
+})
 public class Session {
     @Id
     private String id;
@@ -14,7 +17,20 @@ public class Session {
 
     private LocalDateTime expires;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId", nullable = false)
     private User user;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getSessionToken() { return sessionToken; }
+    public void setSessionToken(String sessionToken) { this.sessionToken = sessionToken; }
+
+    public LocalDateTime getExpires() { return expires; }
+    public void setExpires(LocalDateTime expires) { this.expires = expires; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
 }
@@ -1,16 +1,22 @@
 package io.github.rawadhossain.GikiZero.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions", indexes = {
+        @Index(name = "idx_submissions_user_created", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_submissions_created", columnList = "created_at DESC, id DESC")
+})
 public class Submission {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
+    // Written as {"user": {"id": ...}}, read back as userId without loading the user
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -50,6 +56,8 @@ public class Submission {
 
     private double totalEmissionScore;
     private String impactCategory;
+    // EmissionFactorModel version the scores were computed with
+    private String factorModelVersion;
 
     private LocalDateTime createdAt = LocalDateTime.now();
     private LocalDateTime updatedAt = LocalDateTime.now();
@@ -62,6 +70,7 @@ public class Submission {
 
     public User getUser() { return user; }
     public void setUser(User user) { this.user = user; }
+    public String getUserId() { return user != null ? user.getId() : null; }
 
     public String getTransportationType() { return transportationType; }
     public void setTransportationType(String transportationType) { this.transportationType = transportationType; }
@@ -138,6 +147,9 @@ public class Submission {
     public String getImpactCategory() { return impactCategory; }
     public void setImpactCategory(String impactCategory) { this.impactCategory = impactCategory; }
 
+    public String getFactorModelVersion() { return factorModelVersion; }
+    public void setFactorModelVersion(String factorModelVersion) { this.factorModelVersion = factorModelVersion; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+// The (userId, badgeId) unique index also serves findByUserId lookups
+@NamedEntityGraph(name = "UserBadge.badge", attributeNodes = @NamedAttributeNode("badge"))
 @Table(uniqueConstraints = { @UniqueConstraint(columnNames = { "userId", "badgeId" }) })
 public class UserBadge {
     @Id
@@ -11,11 +13,24 @@ public class UserBadge {
 
     private LocalDateTime earnedAt = LocalDateTime.now();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "badgeId", nullable = false)
     private Badge badge;
+
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public LocalDateTime getEarnedAt() { return earnedAt; }
+    public void setEarnedAt(LocalDateTime earnedAt) { this.earnedAt = earnedAt; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public Badge getBadge() { return badge; }
+    public void setBadge(Badge badge) { this.badge = badge; }
 }
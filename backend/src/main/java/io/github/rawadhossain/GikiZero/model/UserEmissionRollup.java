@@ -0,0 +1,96 @@
+package io.github.rawadhossain.GikiZero.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Running totals of a user's submissions, maintained in the same transaction
+ * as every submission insert and delete so dashboard stats are a primary key read.
+ */
+@Entity
+@Table(name = "user_emission_rollup")
+public class UserEmissionRollup {
+
+    @Id
+    private String userId;
+
+    private long submissionCount;
+    private double scoreSum;
+    private Double minScore;
+    private Double maxScore;
+    private Double lastScore;
+    private LocalDateTime lastSubmittedAt;
+
+    // Per-category sums, one for each score column of Submission
+    private double transportationSum;
+    private double energySum;
+    private double waterSum;
+    private double dietSum;
+    private double foodWasteSum;
+    private double shoppingSum;
+    private double wasteSum;
+    private double electronicsSum;
+    private double travelSum;
+    private double applianceSum;
+
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public double getAverageScore() {
+        return submissionCount > 0 ? scoreSum / submissionCount : 0;
+    }
+
+    // Getters and setters
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+
+    public long getSubmissionCount() { return submissionCount; }
+    public void setSubmissionCount(long submissionCount) { this.submissionCount = submissionCount; }
+
+    public double getScoreSum() { return scoreSum; }
+    public void setScoreSum(double scoreSum) { this.scoreSum = scoreSum; }
+
+    public Double getMinScore() { return minScore; }
+    public void setMinScore(Double minScore) { this.minScore = minScore; }
+
+    public Double getMaxScore() { return maxScore; }
+    public void setMaxScore(Double maxScore) { this.maxScore = maxScore; }
+
+    public Double getLastScore() { return lastScore; }
+    public void setLastScore(Double lastScore) { this.lastScore = lastScore; }
+
+    public LocalDateTime getLastSubmittedAt() { return lastSubmittedAt; }
+    public void setLastSubmittedAt(LocalDateTime lastSubmittedAt) { this.lastSubmittedAt = lastSubmittedAt; }
+
+    public double getTransportationSum() { return transportationSum; }
+    public void setTransportationSum(double transportationSum) { this.transportationSum = transportationSum; }
+
+    public double getEnergySum() { return energySum; }
+    public void setEnergySum(double energySum) { this.energySum = energySum; }
+
+    public double getWaterSum() { return waterSum; }
+    public void setWaterSum(double waterSum) { this.waterSum = waterSum; }
+
+    public double getDietSum() { return dietSum; }
+    public void setDietSum(double dietSum) { this.dietSum = dietSum; }
+
+    public double getFoodWasteSum() { return foodWasteSum; }
+    public void setFoodWasteSum(double foodWasteSum) { this.foodWasteSum = foodWasteSum; }
+
+    public double getShoppingSum() { return shoppingSum; }
+    public void setShoppingSum(double shoppingSum) { this.shoppingSum = shoppingSum; }
+
+    public double getWasteSum() { return wasteSum; }
+    public void setWasteSum(double wasteSum) { this.wasteSum = wasteSum; }
+
+    public double getElectronicsSum() { return electronicsSum; }
+    public void setElectronicsSum(double electronicsSum) { this.electronicsSum = electronicsSum; }
+
+    public double getTravelSum() { return travelSum; }
+    public void setTravelSum(double travelSum) { this.travelSum = travelSum; }
+
+    public double getApplianceSum() { return applianceSum; }
+    public void setApplianceSum(double applianceSum) { this.applianceSum = applianceSum; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(uniqueConstraints = { @UniqueConstraint(columnNames = { "identifier", "token" }) })
+@Table(uniqueConstraints = { @UniqueConstraint(columnNames = { "identifier", "token" }) },
+        indexes = @Index(name = "idx_verification_token_expires", columnList = "expires"))
 public class VerificationToken {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
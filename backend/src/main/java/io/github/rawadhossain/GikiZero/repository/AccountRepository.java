@@ -1,9 +1,8 @@
 package io.github.rawadhossain.GikiZero.repository;
 
-import io.github.rawadhossain.GikiZero.model.User;
+import io.github.rawadhossain.GikiZero.model.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
-import java.util.UUID;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -4,10 +4,11 @@ import io.github.rawadhossain.GikiZero.model.AiTip;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AiTipRepository extends JpaRepository<AiTip, String> {
-    List<AiTip> findByUserId(String userId);
-    void deleteByUserId(String userId);
+    List<AiTip> findByUser_Id(String userId);
+    List<AiTip> findByUser_IdIn(Collection<String> userIds);
 }
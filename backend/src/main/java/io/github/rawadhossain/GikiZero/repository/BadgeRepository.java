@@ -1,10 +1,27 @@
 package io.github.rawadhossain.GikiZero.repository;
 
 import io.github.rawadhossain.GikiZero.model.Badge;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BadgeRepository extends JpaRepository<Badge, String> {
+    // Results are kept in the "badges" query cache until a badge is written
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "badges")
+    })
     boolean existsByName(String name);
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "badges")
+    })
+    List<Badge> findAll();
 }
\ No newline at end of file
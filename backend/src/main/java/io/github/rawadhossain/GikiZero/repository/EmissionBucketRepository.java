@@ -0,0 +1,15 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import io.github.rawadhossain.GikiZero.model.EmissionBucket;
+import io.github.rawadhossain.GikiZero.model.EmissionBucketId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface EmissionBucketRepository extends JpaRepository<EmissionBucket, EmissionBucketId> {
+    List<EmissionBucket> findByUserIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            String userId, EmissionBucket.Granularity granularity, LocalDate from, LocalDate to);
+}
@@ -1,13 +1,26 @@
 package io.github.rawadhossain.GikiZero.repository;
 
 import io.github.rawadhossain.GikiZero.model.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, String> {
+    // Results are kept in the "questions" query cache until a question is written
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "questions")
+    })
     List<Question> findByCategoryAndIsActiveTrue(String category);
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "questions")
+    })
     List<Question> findByIsActiveTrue();
 }
@@ -1,6 +1,9 @@
 package io.github.rawadhossain.GikiZero.repository;
 
 import io.github.rawadhossain.GikiZero.model.Report;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,8 @@ import java.util.List;
 public interface ReportRepository extends JpaRepository<Report, String> {
     List<Report> findByUser_Id(String userId);
     List<Report> findByType(String type);
+
+    // Keyset pages on (createdAt, id), type is Report or ReportSummary
+    <T> Window<T> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit, Class<T> type);
+    <T> Window<T> findByUser_IdOrderByCreatedAtDescIdDesc(String userId, ScrollPosition position, Limit limit, Class<T> type);
 }
@@ -0,0 +1,10 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import java.time.LocalDateTime;
+
+// Closed projection for report lists, only these columns are selected
+public interface ReportSummary {
+    String getId();
+    String getType();
+    LocalDateTime getCreatedAt();
+}
@@ -1,14 +1,25 @@
 package io.github.rawadhossain.GikiZero.repository;
 
 import io.github.rawadhossain.GikiZero.model.Submission;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SubmissionRepository extends JpaRepository<Submission, String> {
     List<Submission> findByUser_IdOrderByCreatedAtDesc(String userId);
     List<Submission> findByUser_IdAndCreatedAtAfterOrderByCreatedAtDesc(String userId, LocalDateTime date);
+    List<Submission> findByUser_IdInAndCreatedAtAfterOrderByCreatedAtDesc(Collection<String> userIds, LocalDateTime date);
+
+    // Keyset pages on (createdAt, id), type is Submission or a projection such as SubmissionSummary
+    <T> Window<T> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit, Class<T> type);
+    <T> Window<T> findByUser_IdOrderByCreatedAtDescIdDesc(String userId, ScrollPosition position, Limit limit, Class<T> type);
+    <T> Window<T> findByUser_IdAndCreatedAtAfterOrderByCreatedAtDescIdDesc(String userId, LocalDateTime date,
+                                                                            ScrollPosition position, Limit limit, Class<T> type);
 }
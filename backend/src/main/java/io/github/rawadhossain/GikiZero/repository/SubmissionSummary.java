@@ -0,0 +1,11 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import java.time.LocalDateTime;
+
+// Closed projection for history lists, only these columns are selected
+public interface SubmissionSummary {
+    String getId();
+    LocalDateTime getCreatedAt();
+    double getTotalEmissionScore();
+    String getImpactCategory();
+}
@@ -1,6 +1,7 @@
 package io.github.rawadhossain.GikiZero.repository;
 
 import io.github.rawadhossain.GikiZero.model.UserBadge;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +9,7 @@ import java.util.List;
 
 @Repository
 public interface UserBadgeRepository extends JpaRepository<UserBadge, String> {
+    // Badges are fetched in the same query, see the UserBadge.badge entity graph
+    @EntityGraph("UserBadge.badge")
     List<UserBadge> findByUserId(String userId);
 }
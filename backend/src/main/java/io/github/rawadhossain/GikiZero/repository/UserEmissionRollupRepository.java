@@ -0,0 +1,9 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import io.github.rawadhossain.GikiZero.model.UserEmissionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserEmissionRollupRepository extends JpaRepository<UserEmissionRollup, String> {
+}
@@ -0,0 +1,19 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import java.time.LocalDateTime;
+
+// Closed projection for the profile screen: the user's own columns, no credentials and no collections
+public interface UserProfile {
+    String getId();
+    String getName();
+    String getEmail();
+    String getImage();
+    String getAge();
+    String getLocation();
+    boolean isOnboardingCompleted();
+    int getCurrentStreak();
+    int getLongestStreak();
+    int getTotalPoints();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -1,12 +1,25 @@
 package io.github.rawadhossain.GikiZero.repository;
 
 import io.github.rawadhossain.GikiZero.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // type is User or a projection such as UserProfile
+    <T> Optional<T> findById(String id, Class<T> type);
+
+    // Keyset pages on (createdAt, id), type is User, UserProfile or UserSummary
+    <T> Window<T> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit, Class<T> type);
+
+    // Keyset pages on the primary key for jobs that walk every user
+    List<User> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
 }
@@ -0,0 +1,12 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import java.time.LocalDateTime;
+
+// Closed projection for user lists, only these columns are selected
+public interface UserSummary {
+    String getId();
+    String getName();
+    String getEmail();
+    String getImage();
+    LocalDateTime getCreatedAt();
+}
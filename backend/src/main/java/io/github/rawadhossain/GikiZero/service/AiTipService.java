@@ -1,53 +1,200 @@
 package io.github.rawadhossain.GikiZero.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.rawadhossain.GikiZero.data.EmissionCategory;
+import io.github.rawadhossain.GikiZero.data.TipContent;
+import io.github.rawadhossain.GikiZero.data.TipEngine;
+import io.github.rawadhossain.GikiZero.data.TipProfile;
 import io.github.rawadhossain.GikiZero.model.AiTip;
 import io.github.rawadhossain.GikiZero.model.User;
 import io.github.rawadhossain.GikiZero.repository.AiTipRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * Generates improvement tips from a user's score profile.
+ * <p>
+ * Tips depend only on the impact category, the per-category scores rounded
+ * down to {@code tips.score-bucket} and the engine versions, so generated
+ * tips are cached under that fingerprint and shared by every user whose
+ * scores land in the same buckets. A user's stored tips are then brought in
+ * line with the generated ones: unchanged tips are left alone, changed ones
+ * are updated in place and stale ones are removed with one bulk delete.
+ * <p>
+ * Tips come from the local {@link TipEngine} right away. When an LLM
+ * provider is configured, a profile seen for the first time is also sent to
+ * it through {@link TipEnricher}; its tips replace the cached ones and the
+ * stored tips of the user who asked once they arrive. Other users with the
+ * same profile pick them up on their next request.
+ */
 @Service
 public class AiTipService {
+    private static final Logger log = LoggerFactory.getLogger(AiTipService.class);
+
     private final AiTipRepository aiTipRepository;
+    private final ReportCache reportCache;
+    private final TipEngine tipEngine;
+    private final TipEnricher tipEnricher;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter ruleTipsCounter;
+    private final Counter llmTipsCounter;
+    private final Cache<String, List<TipContent>> tipsByProfile;
+    private final double scoreBucket;
+    // stores enriched tips off the provider threads, so a slow transaction never holds up the next call
+    private final ExecutorService storeExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "tip-store");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    public AiTipService(AiTipRepository aiTipRepository) {
+    public AiTipService(AiTipRepository aiTipRepository, ReportCache reportCache, TipEngine tipEngine,
+                        TipEnricher tipEnricher, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                        @Value("${tips.cache.max-size:10000}") long maxSize,
+                        @Value("${tips.score-bucket:20}") double scoreBucket) {
         this.aiTipRepository = aiTipRepository;
+        this.reportCache = reportCache;
+        this.tipEngine = tipEngine;
+        this.tipEnricher = tipEnricher;
+        this.transactionTemplate = transactionTemplate;
+        this.ruleTipsCounter = Counter.builder("gikizero.tips.generated").tag("engine", "rules").register(meterRegistry);
+        this.llmTipsCounter = Counter.builder("gikizero.tips.generated").tag("engine", "llm").register(meterRegistry);
+        this.tipsByProfile = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tipsByProfile, "tips");
+        this.scoreBucket = scoreBucket;
     }
 
-    public List<AiTip> generateTips(User user, String submissionData, int totalScore, String impactCategory) {
-        List<AiTip> tips = new ArrayList<>();
-
-       
-        if ("transportation".equalsIgnoreCase(impactCategory)) {
-            AiTip tip = new AiTip();
-            tip.setTitle("Switch to Electric or Hybrid Vehicle");
-            tip.setDescription("Consider upgrading to an EV or hybrid for your next car.");
-            tip.setCategory("Transportation");
-            tip.setImpact("High");
-            tip.setReasoning("Transportation is one of the largest emission sources.");
-            tip.setUser(user);
-            tips.add(tip);
-        } else if ("energy".equalsIgnoreCase(impactCategory)) {
-            AiTip tip = new AiTip();
-            tip.setTitle("Switch to Renewable Energy");
-            tip.setDescription("Install solar panels or choose a renewable energy plan.");
-            tip.setCategory("Energy");
-            tip.setImpact("High");
-            tip.setReasoning("Energy consumption is a major source of emissions.");
-            tip.setUser(user);
-            tips.add(tip);
-        }
-
-        // 1. Delete old tips
-        aiTipRepository.deleteByUserId(user.getId());
-
-        // 2. Save new tips
-        return aiTipRepository.saveAll(tips);
+    /**
+     * Makes the user's stored tips match their score profile and returns
+     * them. {@code scores} is keyed like {@code CarbonScore.toMap()};
+     * missing categories count as zero.
+     */
+    public List<AiTip> generateTips(User user, String impactCategory, Map<String, ? extends Number> scores) {
+        String category = impactCategory != null ? impactCategory.toLowerCase(Locale.ROOT) : "";
+        double[] bucketed = bucketed(scores);
+        String fingerprint = fingerprint(category, bucketed);
+
+        List<TipContent> tips = tipsByProfile.getIfPresent(fingerprint);
+        TipProfile profile = null;
+        if (tips == null) {
+            profile = new TipProfile(category, bucketed);
+            List<TipContent> ruleTips = List.copyOf(tipEngine.generate(profile));
+            tips = tipsByProfile.asMap().putIfAbsent(fingerprint, ruleTips);
+            if (tips == null) {
+                tips = ruleTips;
+                ruleTipsCounter.increment(ruleTips.size());
+            } else {
+                profile = null; // another request got here first and owns the enrichment
+            }
+        }
+
+        List<TipContent> generated = tips;
+        List<AiTip> current = transactionTemplate.execute(status -> storeTips(user, generated));
+
+        // only after the rule tips are committed, so the two writes can't interleave
+        if (profile != null) {
+            tipEnricher.enrich(fingerprint, profile, generated).ifPresent(call -> call.thenAcceptAsync(richer -> {
+                if (richer.isEmpty()) {
+                    return;
+                }
+                llmTipsCounter.increment(richer.size());
+                tipsByProfile.put(fingerprint, richer);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> storeTips(user, richer));
+                } catch (RuntimeException e) {
+                    log.warn("Could not store enriched tips for user {}", user.getId(), e);
+                }
+            }, storeExecutor));
+        }
+        return current;
     }
 
     public List<AiTip> getTipsForUser(String userId) {
-        return aiTipRepository.findByUserId(userId);
+        return aiTipRepository.findByUser_Id(userId);
+    }
+
+    // Diffs the stored tips against the generated ones; must run in a transaction
+    private List<AiTip> storeTips(User user, List<TipContent> generated) {
+        Map<String, AiTip> stored = new HashMap<>();
+        for (AiTip tip : aiTipRepository.findByUser_Id(user.getId())) {
+            stored.put(TipContent.keyOf(tip), tip);
+        }
+
+        boolean changed = false;
+        List<AiTip> current = new ArrayList<>();
+        List<AiTip> added = new ArrayList<>();
+        for (TipContent content : generated) {
+            AiTip tip = stored.remove(content.key());
+            if (tip == null) {
+                tip = new AiTip();
+                tip.setUser(user);
+                added.add(tip);
+            }
+            if (!content.sameAs(tip)) {
+                // existing tips are managed, so this is flushed as an UPDATE
+                content.applyTo(tip);
+                changed = true;
+            }
+            current.add(tip);
+        }
+
+        if (!stored.isEmpty()) {
+            List<String> staleIds = stored.values().stream().map(AiTip::getId).toList();
+            aiTipRepository.deleteAllByIdInBatch(staleIds);
+            changed = true;
+        }
+        aiTipRepository.saveAll(added);
+
+        if (changed) {
+            // cached reports showing the old tips are stale
+            reportCache.invalidateUser(user.getId());
+        }
+        return current;
+    }
+
+    // Scores rounded down to their bucket, indexed by category ordinal
+    double[] bucketed(Map<String, ? extends Number> scores) {
+        double[] bucketed = new double[EmissionCategory.COUNT];
+        for (EmissionCategory category : EmissionCategory.values()) {
+            Number score = scores != null ? scores.get(category.key()) : null;
+            if (score != null) {
+                bucketed[category.ordinal()] = Math.floor(score.doubleValue() / scoreBucket) * scoreBucket;
+            }
+        }
+        return bucketed;
+    }
+
+    // e.g. "rules-1||energy|transportation=3,energy=6,..." with each score as its bucket number
+    String fingerprint(String impactCategory, double[] bucketed) {
+        StringBuilder key = new StringBuilder(tipEngine.version()).append('|').append(tipEnricher.version())
+                .append('|').append(impactCategory).append('|');
+        for (EmissionCategory category : EmissionCategory.values()) {
+            key.append(category.key()).append('=')
+                    .append(Math.round(bucketed[category.ordinal()] / scoreBucket)).append(',');
+        }
+        return key.toString();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        storeExecutor.shutdown();
     }
 }
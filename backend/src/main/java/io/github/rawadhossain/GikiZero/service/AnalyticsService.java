@@ -0,0 +1,70 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.AnalyticsSummary;
+import io.github.rawadhossain.GikiZero.data.EmissionCategory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class AnalyticsService {
+
+    // One pass over the user's rows in the period: counts, averages and the two most recent scores
+    private static final String SUMMARY_QUERY;
+
+    static {
+        StringBuilder sql = new StringBuilder("""
+                SELECT count(*) AS submission_count,
+                       coalesce(avg(total_emission_score), 0) AS average_score,
+                       max(total_emission_score) FILTER (WHERE rn = 1) AS latest_score,
+                       max(total_emission_score) FILTER (WHERE rn = 2) AS previous_score,
+                       max(impact_category) FILTER (WHERE rn = 1) AS latest_impact_category""");
+        for (EmissionCategory category : EmissionCategory.STORED) {
+            String column = category.scoreColumn();
+            sql.append(",\n       coalesce(avg(").append(column).append("), 0) AS avg_").append(column);
+        }
+        sql.append("""
+
+                FROM (SELECT s.*, row_number() OVER (ORDER BY created_at DESC, id DESC) AS rn
+                      FROM submissions s
+                      WHERE user_id = ? AND created_at >= ?) s
+                """);
+        SUMMARY_QUERY = sql.toString();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalyticsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public AnalyticsSummary getSummary(String userId, String period) {
+        Timestamp since = Timestamp.valueOf(periodStart(period));
+        return jdbcTemplate.queryForObject(SUMMARY_QUERY, (rs, rowNum) -> {
+            Map<String, Double> categoryAverages = new LinkedHashMap<>();
+            for (EmissionCategory category : EmissionCategory.STORED) {
+                categoryAverages.put(category.key(), rs.getDouble("avg_" + category.scoreColumn()));
+            }
+            Double latest = rs.getObject("latest_score", Double.class);
+            Double previous = rs.getObject("previous_score", Double.class);
+            double trend = latest != null && previous != null ? latest - previous : 0;
+            return new AnalyticsSummary(period, rs.getLong("submission_count"), latest,
+                    rs.getString("latest_impact_category"), rs.getDouble("average_score"), trend, categoryAverages);
+        }, userId, since);
+    }
+
+    static LocalDateTime periodStart(String period) {
+        LocalDateTime now = LocalDateTime.now();
+        return switch (period) {
+            case "week" -> now.minusWeeks(1);
+            case "month" -> now.minusMonths(1);
+            case "year" -> now.minusYears(1);
+            case "all" -> LocalDateTime.of(1970, 1, 1, 0, 0);
+            default -> throw new IllegalArgumentException("Unknown period: " + period);
+        };
+    }
+}
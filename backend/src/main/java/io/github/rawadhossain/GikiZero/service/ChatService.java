@@ -1,33 +1,237 @@
 package io.github.rawadhossain.GikiZero.service;
 
-import io.github.rawadhossain.GikiZero.model.Chat;
-import io.github.rawadhossain.GikiZero.repository.ChatRepository;
+import io.github.rawadhossain.GikiZero.data.ChatMessage;
+import io.github.rawadhossain.GikiZero.data.ChatModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Streams chat replies from the {@link ChatModel} to the client as
+ * Server-Sent Events.
+ * <p>
+ * Every conversation runs on its own virtual thread, so a model that blocks
+ * while it streams ties up no platform thread. The emitter is handed back
+ * before the model is called, and each token is sent as a {@code token}
+ * event the moment it arrives; the stream ends with {@code done}, or
+ * {@code error} if the model fails. A user may have at most
+ * {@code chat.max-concurrent-per-user} replies streaming at once. When the
+ * client goes away or {@code chat.timeout-ms} passes, the model call is
+ * interrupted.
+ */
 @Service
 public class ChatService {
-    private final ChatRepository chatRepository;
+    private static final Logger log = LoggerFactory.getLogger(ChatService.class);
 
-    public ChatService(ChatRepository chatRepository) {
-        this.chatRepository = chatRepository;
+    private final ChatModel model;
+    private final int maxPerUser;
+    private final long timeoutMs;
+    private final int maxMessages;
+    private final int maxMessageChars;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    // userId -> replies streaming right now; users without any have no entry
+    private final Map<String, Integer> active = new ConcurrentHashMap<>();
+
+    private final Timer firstTokenTimer;
+    private final Timer replyTimer;
+    private final Counter tokenCounter;
+    private final Counter rejectedCounter;
+
+    public ChatService(ChatModel model, MeterRegistry meterRegistry,
+                       @Value("${chat.max-concurrent-per-user:2}") int maxPerUser,
+                       @Value("${chat.timeout-ms:120000}") long timeoutMs,
+                       @Value("${chat.max-messages:40}") int maxMessages,
+                       @Value("${chat.max-message-chars:4000}") int maxMessageChars) {
+        this.model = model;
+        this.maxPerUser = maxPerUser;
+        this.timeoutMs = timeoutMs;
+        this.maxMessages = maxMessages;
+        this.maxMessageChars = maxMessageChars;
+
+        this.firstTokenTimer = Timer.builder("gikizero.chat.first-token")
+                .description("Time from request to the first token sent")
+                .tag("model", model.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.replyTimer = Timer.builder("gikizero.chat.reply")
+                .description("Time to stream a whole reply")
+                .tag("model", model.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.tokenCounter = Counter.builder("gikizero.chat.tokens").tag("model", model.name()).register(meterRegistry);
+        this.rejectedCounter = Counter.builder("gikizero.chat.rejected").register(meterRegistry);
+    }
+
+    /**
+     * Starts streaming the reply to {@code conversation} and returns the
+     * emitter right away. Client-sent system messages are ignored; the
+     * assistant's own prompt always comes first, and only the last
+     * {@code chat.max-messages} messages are passed on.
+     *
+     * @throws IllegalArgumentException if the conversation is empty, doesn't
+     *         end with a user message or has an unknown role or oversized message
+     * @throws RejectedExecutionException if the user already has the maximum
+     *         number of replies streaming
+     */
+    public SseEmitter stream(String userId, List<ChatMessage> conversation) {
+        List<ChatMessage> messages = prompt(conversation);
+        if (!tryAcquire(userId)) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Too many chats in progress for user " + userId);
+        }
+
+        long start = System.nanoTime();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicBoolean released = new AtomicBoolean();
+        // the task's finally and a cancel before the task starts may both get here
+        Runnable releaseSlot = () -> {
+            if (released.compareAndSet(false, true)) {
+                release(userId);
+            }
+        };
+        AtomicReference<Future<?>> call = new AtomicReference<>();
+        Runnable cancel = () -> {
+            closed.set(true);
+            Future<?> running = call.get();
+            // a task cancelled before it started never reaches its finally
+            if (running != null && running.cancel(true)) {
+                releaseSlot.run();
+            }
+        };
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> {
+            cancel.run();
+            emitter.complete();
+        });
+        emitter.onError(error -> cancel.run());
+
+        try {
+            call.set(executor.submit(() -> reply(userId, messages, emitter, closed, releaseSlot, start)));
+        } catch (RejectedExecutionException e) {
+            releaseSlot.run();
+            throw e;
+        }
+        // the emitter may have closed before the future was set
+        if (closed.get()) {
+            cancel.run();
+        }
+        return emitter;
+    }
+
+    private void reply(String userId, List<ChatMessage> messages, SseEmitter emitter, AtomicBoolean closed,
+                       Runnable releaseSlot, long start) {
+        AtomicBoolean first = new AtomicBoolean(true);
+        SseEmitter.SseEventBuilder end = null;
+        try {
+            model.stream(messages, token -> {
+                // JSON, so tokens starting with a space survive the SSE "data:" framing
+                if (closed.get() || !send(emitter, SseEmitter.event().name("token")
+                        .data(Map.of("text", token), MediaType.APPLICATION_JSON))) {
+                    closed.set(true);
+                    throw new CancellationException("Chat closed");
+                }
+                if (first.compareAndSet(true, false)) {
+                    firstTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                tokenCounter.increment();
+            });
+            end = SseEmitter.event().name("done").data("");
+        } catch (Exception e) {
+            // a closed or timed out stream has nobody left to tell
+            if (!closed.get() && !(e instanceof InterruptedException)) {
+                log.warn("Chat model {} failed for user {}", model.name(), userId, e);
+                end = SseEmitter.event().name("error").data("The assistant is unavailable right now");
+            }
+        } finally {
+            // before the stream ends, so the client can start its next question right away
+            releaseSlot.run();
+            replyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (end != null && send(emitter, end)) {
+            emitter.complete();
+        }
     }
 
-    public List<Chat> getAllChats() {
-        return chatRepository.findAll();
+    // False if the client has gone away
+    private static boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private List<ChatMessage> prompt(List<ChatMessage> conversation) {
+        if (conversation == null || conversation.isEmpty()) {
+            throw new IllegalArgumentException("No messages");
+        }
+        List<ChatMessage> history = new ArrayList<>();
+        for (ChatMessage message : conversation) {
+            String role = message.getRole();
+            if (ChatMessage.SYSTEM.equals(role)) {
+                continue;
+            }
+            if (!ChatMessage.USER.equals(role) && !ChatMessage.ASSISTANT.equals(role)) {
+                throw new IllegalArgumentException("Unknown role: " + role);
+            }
+            if (message.getContent() == null || message.getContent().length() > maxMessageChars) {
+                throw new IllegalArgumentException("Message must have at most " + maxMessageChars + " characters");
+            }
+            history.add(message);
+        }
+        if (history.isEmpty() || !ChatMessage.USER.equals(history.get(history.size() - 1).getRole())
+                || history.get(history.size() - 1).getContent().isBlank()) {
+            throw new IllegalArgumentException("The conversation must end with a user message");
+        }
+
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(ChatMessage.INITIAL_MESSAGE);
+        messages.addAll(history.subList(Math.max(0, history.size() - maxMessages), history.size()));
+        return messages;
     }
 
-    public Optional<Chat> getChatById(Long id) {
-        return chatRepository.findById(id);
+    private boolean tryAcquire(String userId) {
+        AtomicBoolean acquired = new AtomicBoolean();
+        active.compute(userId, (id, running) -> {
+            int count = running != null ? running : 0;
+            if (count >= maxPerUser) {
+                return running;
+            }
+            acquired.set(true);
+            return count + 1;
+        });
+        return acquired.get();
     }
 
-    public Chat createChat(Chat chat) {
-        return chatRepository.save(chat);
+    private void release(String userId) {
+        active.computeIfPresent(userId, (id, running) -> running > 1 ? running - 1 : null);
     }
 
-    public void deleteChat(Long id) {
-        chatRepository.deleteById(id);
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
     }
 }
@@ -0,0 +1,67 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calls to a failing remote service for a while.
+ * <p>
+ * After {@code failureThreshold} failures in a row the breaker opens and
+ * {@link #tryAcquire()} refuses calls for {@code openMs}. Then a single trial
+ * call is let through: success closes the breaker, failure opens it again.
+ */
+final class CircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    CircuitBreaker(int failureThreshold, long openMs) {
+        this(failureThreshold, openMs, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMs, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+        this.nanoClock = nanoClock;
+    }
+
+    // True if a call may go ahead; the caller must then report its outcome
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAt >= openNanos) {
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                return false;
+            default:
+                // a trial call is already running
+                return false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.BatchScore;
+import io.github.rawadhossain.GikiZero.data.EmissionCategory;
+import io.github.rawadhossain.GikiZero.data.TrendPoint;
+import io.github.rawadhossain.GikiZero.model.EmissionBucket;
+import io.github.rawadhossain.GikiZero.model.EmissionBucket.Granularity;
+import io.github.rawadhossain.GikiZero.model.Submission;
+import io.github.rawadhossain.GikiZero.repository.EmissionBucketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains the day, ISO week and month {@link EmissionBucket}s of every
+ * user as submissions are written, and serves trend series from them.
+ * A submission touches one bucket per granularity for the total and each
+ * stored category, all merged with a single batched upsert.
+ */
+@Service
+public class EmissionBucketService {
+
+    private static final Granularity[] GRANULARITIES = Granularity.values();
+
+    private static final String UPSERT = """
+            INSERT INTO emission_buckets AS b (user_id, granularity, bucket_start, category,
+                submission_count, score_sum, min_score, max_score)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, granularity, bucket_start, category) DO UPDATE SET
+                submission_count = b.submission_count + excluded.submission_count,
+                score_sum = b.score_sum + excluded.score_sum,
+                min_score = least(b.min_score, excluded.min_score),
+                max_score = greatest(b.max_score, excluded.max_score)
+            """;
+
+    private static final String SUBTRACT = """
+            UPDATE emission_buckets SET submission_count = submission_count - 1, score_sum = score_sum - ?
+            WHERE user_id = ? AND granularity = ? AND bucket_start = ? AND category = ?
+            """;
+
+    // %s is the submissions column of the category, bounded to the bucket's time range
+    private static final String RECOMPUTE_EXTREMES = """
+            UPDATE emission_buckets SET
+                min_score = (SELECT min(%1$s) FROM submissions WHERE user_id = ? AND created_at >= ? AND created_at < ?),
+                max_score = (SELECT max(%1$s) FROM submissions WHERE user_id = ? AND created_at >= ? AND created_at < ?)
+            WHERE user_id = ? AND granularity = ? AND bucket_start = ? AND category = ?
+            """;
+
+    private static final String DELETE_EMPTY = "DELETE FROM emission_buckets WHERE user_id = ? AND submission_count <= 0";
+
+    private static final String REBUILD;
+
+    static {
+        StringBuilder categories = new StringBuilder("('" + EmissionBucket.TOTAL + "', s.total_emission_score)");
+        for (EmissionCategory category : EmissionCategory.STORED) {
+            categories.append(", ('").append(category.key()).append("', s.").append(category.scoreColumn()).append(")");
+        }
+        REBUILD = """
+                INSERT INTO emission_buckets (user_id, granularity, bucket_start, category,
+                    submission_count, score_sum, min_score, max_score)
+                SELECT s.user_id, g.granularity, date_trunc(g.unit, s.created_at)::date, c.category,
+                       count(*), sum(c.score), min(c.score), max(c.score)
+                FROM submissions s
+                CROSS JOIN (VALUES ('DAY', 'day'), ('WEEK', 'week'), ('MONTH', 'month')) AS g(granularity, unit)
+                CROSS JOIN LATERAL (VALUES %s) AS c(category, score)
+                GROUP BY 1, 2, 3, 4
+                """.formatted(categories);
+    }
+
+    private final EmissionBucketRepository bucketRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxTrendBuckets;
+
+    public EmissionBucketService(EmissionBucketRepository bucketRepository, JdbcTemplate jdbcTemplate,
+                                 @Value("${submissions.trend.max-buckets:366}") int maxTrendBuckets) {
+        this.bucketRepository = bucketRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxTrendBuckets = maxTrendBuckets;
+    }
+
+    /**
+     * Trend series between {@code from} and {@code to} (inclusive), one point per non-empty bucket.
+     *
+     * @throws IllegalArgumentException if the range spans more than
+     *         {@code submissions.trend.max-buckets} buckets of {@code granularity}
+     */
+    public List<TrendPoint> getSeries(String userId, Granularity granularity, LocalDate from, LocalDate to) {
+        long spanned = bucketsBetween(granularity, from, to);
+        if (spanned > maxTrendBuckets) {
+            throw new IllegalArgumentException("A trend may span at most " + maxTrendBuckets + " " + granularity
+                    + " buckets, not " + spanned);
+        }
+        List<EmissionBucket> buckets = bucketRepository.findByUserIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                userId, granularity, bucketStart(granularity, from), to);
+        List<TrendPoint> series = new ArrayList<>();
+        TrendPoint point = null;
+        for (EmissionBucket bucket : buckets) {
+            if (point == null || !point.getBucketStart().equals(bucket.getBucketStart())) {
+                point = new TrendPoint(bucket.getBucketStart());
+                series.add(point);
+            }
+            TrendPoint.Stats stats = new TrendPoint.Stats(bucket.getSubmissionCount(), bucket.getScoreSum(),
+                    bucket.getMinScore(), bucket.getMaxScore());
+            if (EmissionBucket.TOTAL.equals(bucket.getCategory())) {
+                point.setTotal(stats);
+            } else {
+                point.getCategories().put(bucket.getCategory(), stats);
+            }
+        }
+        return series;
+    }
+
+    @Transactional
+    public void recordSubmission(Submission submission) {
+        Map<Key, Delta> deltas = new TreeMap<>();
+        add(deltas, submission.getUser().getId(), submission.getCreatedAt(), submission.getTotalEmissionScore(),
+                storedScores(submission));
+        upsert(deltas);
+    }
+
+    @Transactional
+    public void recordBatch(String[] userIds, BatchScore scores, LocalDateTime createdAt) {
+        Map<Key, Delta> deltas = new TreeMap<>();
+        double[] categories = new double[EmissionCategory.STORED.length];
+        for (int row = 0; row < userIds.length; row++) {
+            for (int i = 0; i < categories.length; i++) {
+                categories[i] = scores.get(EmissionCategory.STORED[i], row);
+            }
+            add(deltas, userIds[row], createdAt, scores.getTotals()[row], categories);
+        }
+        upsert(deltas);
+    }
+
+    // Call after the submission row has been deleted in the same transaction
+    @Transactional
+    public void removeSubmission(Submission submission) {
+        String userId = submission.getUser().getId();
+        LocalDateTime createdAt = submission.getCreatedAt();
+        double[] categories = storedScores(submission);
+
+        List<Object[]> subtract = new ArrayList<>();
+        for (Granularity granularity : GRANULARITIES) {
+            Date start = Date.valueOf(bucketStart(granularity, createdAt.toLocalDate()));
+            subtract.add(new Object[] { submission.getTotalEmissionScore(), userId, granularity.name(), start, EmissionBucket.TOTAL });
+            for (int i = 0; i < categories.length; i++) {
+                subtract.add(new Object[] { categories[i], userId, granularity.name(), start, EmissionCategory.STORED[i].key() });
+            }
+        }
+        jdbcTemplate.batchUpdate(SUBTRACT, subtract);
+
+        recomputeExtremes(userId, createdAt, EmissionBucket.TOTAL, "total_emission_score");
+        for (EmissionCategory category : EmissionCategory.STORED) {
+            recomputeExtremes(userId, createdAt, category.key(), category.scoreColumn());
+        }
+        jdbcTemplate.update(DELETE_EMPTY, userId);
+    }
+
+    /**
+     * Rebuilds every bucket from the submissions table, used after bulk
+     * jobs that rewrite scores in place.
+     */
+    @Transactional
+    public void rebuildAll() {
+        jdbcTemplate.update("DELETE FROM emission_buckets");
+        jdbcTemplate.update(REBUILD);
+    }
+
+    static LocalDate bucketStart(Granularity granularity, LocalDate date) {
+        return switch (granularity) {
+            case DAY -> date;
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    // Buckets of the granularity touched by the inclusive range from..to
+    static long bucketsBetween(Granularity granularity, LocalDate from, LocalDate to) {
+        ChronoUnit unit = switch (granularity) {
+            case DAY -> ChronoUnit.DAYS;
+            case WEEK -> ChronoUnit.WEEKS;
+            case MONTH -> ChronoUnit.MONTHS;
+        };
+        return unit.between(bucketStart(granularity, from), bucketStart(granularity, to)) + 1;
+    }
+
+    static LocalDate bucketEnd(Granularity granularity, LocalDate start) {
+        return switch (granularity) {
+            case DAY -> start.plusDays(1);
+            case WEEK -> start.plusWeeks(1);
+            case MONTH -> start.plusMonths(1);
+        };
+    }
+
+    private void recomputeExtremes(String userId, LocalDateTime createdAt, String category, String column) {
+        List<Object[]> parameters = new ArrayList<>(GRANULARITIES.length);
+        for (Granularity granularity : GRANULARITIES) {
+            LocalDate start = bucketStart(granularity, createdAt.toLocalDate());
+            Timestamp from = Timestamp.valueOf(start.atStartOfDay());
+            Timestamp to = Timestamp.valueOf(bucketEnd(granularity, start).atStartOfDay());
+            parameters.add(new Object[] { userId, from, to, userId, from, to,
+                    userId, granularity.name(), Date.valueOf(start), category });
+        }
+        jdbcTemplate.batchUpdate(RECOMPUTE_EXTREMES.formatted(column), parameters);
+    }
+
+    private static void add(Map<Key, Delta> deltas, String userId, LocalDateTime createdAt, double total, double[] categories) {
+        LocalDate day = createdAt.toLocalDate();
+        for (Granularity granularity : GRANULARITIES) {
+            LocalDate start = bucketStart(granularity, day);
+            deltas.computeIfAbsent(new Key(userId, granularity, start, EmissionBucket.TOTAL), k -> new Delta()).add(total);
+            for (int i = 0; i < categories.length; i++) {
+                deltas.computeIfAbsent(new Key(userId, granularity, start, EmissionCategory.STORED[i].key()), k -> new Delta())
+                        .add(categories[i]);
+            }
+        }
+    }
+
+    private void upsert(Map<Key, Delta> deltas) {
+        List<Object[]> parameters = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> parameters.add(new Object[] {
+                key.userId, key.granularity.name(), Date.valueOf(key.bucketStart), key.category,
+                delta.count, delta.sum, delta.min, delta.max }));
+        jdbcTemplate.batchUpdate(UPSERT, parameters);
+    }
+
+    private static double[] storedScores(Submission submission) {
+        double[] scores = new double[EmissionCategory.STORED.length];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = UserEmissionRollupService.score(submission, EmissionCategory.STORED[i]);
+        }
+        return scores;
+    }
+
+    // Sorted so concurrent writers lock bucket rows in the same order
+    private record Key(String userId, Granularity granularity, LocalDate bucketStart, String category)
+            implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int c = userId.compareTo(other.userId);
+            if (c == 0) c = granularity.compareTo(other.granularity);
+            if (c == 0) c = bucketStart.compareTo(other.bucketStart);
+            if (c == 0) c = category.compareTo(other.category);
+            return c;
+        }
+    }
+
+    private static final class Delta {
+        long count;
+        double sum;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+
+        void add(double score) {
+            count++;
+            sum += score;
+            min = Math.min(min, score);
+            max = Math.max(max, score);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.CarbonScoringEngine;
+import io.github.rawadhossain.GikiZero.data.EmissionFactorModel;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads the emission factor file named by {@code emission.factors.location}
+ * into {@link CarbonScoringEngine} and reloads it when the file changes.
+ * <p>
+ * A new file is fully read and validated before it is installed; a broken
+ * file is logged and the running model stays in place. Scores already in
+ * progress finish on the model they started with.
+ */
+@Service
+public class EmissionFactorService {
+    private static final Logger log = LoggerFactory.getLogger(EmissionFactorService.class);
+
+    private final Resource location;
+    private long lastModified;
+
+    public EmissionFactorService(@Value("${emission.factors.location}") Resource location) {
+        this.location = location;
+    }
+
+    @PostConstruct
+    void load() throws IOException {
+        reload();
+    }
+
+    public EmissionFactorModel getModel() {
+        return CarbonScoringEngine.getModel();
+    }
+
+    public synchronized EmissionFactorModel reload() throws IOException {
+        long modified = lastModified();
+        EmissionFactorModel model;
+        try (InputStream in = location.getInputStream()) {
+            model = EmissionFactorModel.read(in);
+        }
+        EmissionFactorModel previous = CarbonScoringEngine.install(model);
+        lastModified = modified;
+        log.info("Installed emission factor model {} from {} (was {})", model.getVersion(), location,
+                previous.getVersion());
+        return model;
+    }
+
+    @Scheduled(fixedDelayString = "${emission.factors.poll-interval-ms:60000}")
+    public void reloadIfModified() {
+        if (lastModified() == lastModified) {
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Keeping emission factor model {}, {} could not be loaded", getModel().getVersion(), location, e);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return location.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
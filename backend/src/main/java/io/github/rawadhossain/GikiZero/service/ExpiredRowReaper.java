@@ -0,0 +1,96 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes expired {@code session} and {@code verification_token} rows.
+ * <p>
+ * Each statement removes at most {@code reaper.batch-size} rows, picked by
+ * ctid from the expiry index, and commits on its own, so no lock is held
+ * for longer than one small batch. The reaper sleeps {@code reaper.pause-ms}
+ * between batches to leave I/O for request traffic, and stops after
+ * {@code reaper.max-batches} per table per run; whatever is left is picked
+ * up next time.
+ */
+@Service
+public class ExpiredRowReaper {
+    private static final Logger log = LoggerFactory.getLogger(ExpiredRowReaper.class);
+
+    private static final List<String> TABLES = List.of("session", "verification_token");
+
+    // ctid = ANY(ARRAY(...)) keeps the plan a TID scan over exactly the rows the subquery picked
+    private static final String DELETE_BATCH = """
+            DELETE FROM %1$s
+            WHERE ctid = ANY(ARRAY(SELECT ctid FROM %1$s WHERE expires < ? LIMIT ?))
+              AND expires < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long pauseMs;
+    private final int maxBatches;
+
+    public ExpiredRowReaper(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                            @Value("${reaper.batch-size:1000}") int batchSize,
+                            @Value("${reaper.pause-ms:200}") long pauseMs,
+                            @Value("${reaper.max-batches:1000}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${reaper.interval-ms:600000}", initialDelayString = "${reaper.initial-delay-ms:60000}")
+    public void purgeExpired() throws InterruptedException {
+        for (String table : TABLES) {
+            purge(table);
+        }
+    }
+
+    /**
+     * Deletes expired rows of {@code table} batch by batch and returns how
+     * many were deleted.
+     */
+    long purge(String table) throws InterruptedException {
+        Counter purged = Counter.builder("gikizero.reaper.rows")
+                .description("Expired rows deleted")
+                .tag("table", table)
+                .register(meterRegistry);
+        Timer batchTimer = Timer.builder("gikizero.reaper.batch")
+                .description("Time per delete batch")
+                .tag("table", table)
+                .register(meterRegistry);
+
+        String sql = DELETE_BATCH.formatted(table);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = batchTimer.record(() -> jdbcTemplate.update(sql, now, batchSize, now));
+            int rows = deleted != null ? deleted : 0;
+            purged.increment(rows);
+            total += rows;
+            if (rows < batchSize) {
+                break;
+            }
+            Thread.sleep(pauseMs);
+        }
+        if (total > 0) {
+            log.info("Purged {} expired rows from {}", total, table);
+        }
+        return total;
+    }
+}
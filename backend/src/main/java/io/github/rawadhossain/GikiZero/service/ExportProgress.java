@@ -0,0 +1,42 @@
+package io.github.rawadhossain.GikiZero.service;
+
+/**
+ * Snapshot of a bulk report export as reported by {@link ReportExportService}.
+ */
+public class ExportProgress {
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final String jobId;
+    private final String type;
+    private final State state;
+    private final long reportsDone;
+    private final long estimatedUsers;
+    private final double reportsPerSecond;
+    private final String lastUserId;
+    private final String error;
+
+    ExportProgress(String jobId, String type, State state, long reportsDone, long estimatedUsers,
+                   double reportsPerSecond, String lastUserId, String error) {
+        this.jobId = jobId;
+        this.type = type;
+        this.state = state;
+        this.reportsDone = reportsDone;
+        this.estimatedUsers = estimatedUsers;
+        this.reportsPerSecond = reportsPerSecond;
+        this.lastUserId = lastUserId;
+        this.error = error;
+    }
+
+    public String getJobId() { return jobId; }
+    public String getType() { return type; }
+    public State getState() { return state; }
+    public long getReportsDone() { return reportsDone; }
+    public long getEstimatedUsers() { return estimatedUsers; }
+    public double getReportsPerSecond() { return reportsPerSecond; }
+    public String getLastUserId() { return lastUserId; }
+    public String getError() { return error; }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
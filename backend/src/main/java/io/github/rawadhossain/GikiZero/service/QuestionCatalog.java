@@ -0,0 +1,152 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rawadhossain.GikiZero.data.CatalogQuestion;
+import io.github.rawadhossain.GikiZero.model.Question;
+import io.github.rawadhossain.GikiZero.repository.QuestionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory copy of the active question bank.
+ * <p>
+ * The catalog is loaded at startup into an immutable snapshot with every
+ * question's options parsed once. Readers only dereference the current
+ * snapshot, so a survey render costs neither a query nor JSON parsing.
+ * A trigger bumps {@code question_bank_version} whenever the question table
+ * changes; the catalog polls that counter and swaps in a freshly loaded
+ * snapshot when it moves. Such changes may bypass Hibernate, so the
+ * second-level cache's questions are evicted before reloading.
+ */
+@Service
+public class QuestionCatalog {
+    private static final Logger log = LoggerFactory.getLogger(QuestionCatalog.class);
+
+    private static final String SELECT_VERSION = "SELECT version FROM question_bank_version WHERE id = 1";
+
+    private final QuestionRepository questionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SessionFactory sessionFactory;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public QuestionCatalog(QuestionRepository questionRepository, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                           EntityManagerFactory entityManagerFactory) {
+        this.questionRepository = questionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @PostConstruct
+    void load() {
+        reload(currentVersion());
+    }
+
+    public List<CatalogQuestion> getActiveQuestions() {
+        return snapshot.get().all;
+    }
+
+    public List<CatalogQuestion> getActiveQuestions(String category) {
+        return snapshot.get().byCategory.getOrDefault(category, List.of());
+    }
+
+    public Map<String, List<CatalogQuestion>> getActiveQuestionsByCategory() {
+        return snapshot.get().byCategory;
+    }
+
+    public long getVersion() {
+        return snapshot.get().version;
+    }
+
+    @Scheduled(fixedDelayString = "${questions.catalog.poll-interval-ms:30000}")
+    public void refreshIfChanged() {
+        long version = currentVersion();
+        if (version != snapshot.get().version) {
+            reload(version);
+        }
+    }
+
+    // The version is read before the rows, so a change racing the load
+    // leaves the snapshot one version behind and the next poll reloads it.
+    private synchronized void reload(long version) {
+        if (version == snapshot.get().version) {
+            return;
+        }
+        sessionFactory.getCache().evictEntityData(Question.class);
+        sessionFactory.getCache().evictQueryRegion("questions");
+
+        List<CatalogQuestion> all = new ArrayList<>();
+        for (Question question : questionRepository.findByIsActiveTrue()) {
+            all.add(new CatalogQuestion(question.getId(), question.getCategory(), question.getQuestion(),
+                    question.getType(), parseOptions(question), question.getWeight()));
+        }
+
+        Map<String, List<CatalogQuestion>> grouped = new LinkedHashMap<>();
+        for (CatalogQuestion question : all) {
+            grouped.computeIfAbsent(question.getCategory(), c -> new ArrayList<>()).add(question);
+        }
+        Map<String, List<CatalogQuestion>> byCategory = new LinkedHashMap<>();
+        grouped.forEach((category, questions) -> byCategory.put(category, List.copyOf(questions)));
+
+        snapshot.set(new Snapshot(version, List.copyOf(all), Collections.unmodifiableMap(byCategory)));
+        log.info("Loaded question catalog version {}: {} active questions in {} categories",
+                version, all.size(), byCategory.size());
+    }
+
+    private long currentVersion() {
+        Long version = jdbcTemplate.queryForObject(SELECT_VERSION, Long.class);
+        return version != null ? version : 0;
+    }
+
+    // options is either [{"value": ..., "label": ...}, ...] or a plain array of strings
+    private List<CatalogQuestion.Option> parseOptions(Question question) {
+        if (question.getOptions() == null || question.getOptions().isBlank()) {
+            return List.of();
+        }
+        try {
+            List<CatalogQuestion.Option> options = new ArrayList<>();
+            for (JsonNode option : objectMapper.readTree(question.getOptions())) {
+                if (option.isObject()) {
+                    String value = option.path("value").asText();
+                    options.add(new CatalogQuestion.Option(value, option.path("label").asText(value)));
+                } else {
+                    options.add(new CatalogQuestion.Option(option.asText(), option.asText()));
+                }
+            }
+            return options;
+        } catch (IOException e) {
+            log.warn("Question {} has unreadable options, serving it without any", question.getId(), e);
+            return List.of();
+        }
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(-1, List.of(), Map.of());
+
+        final long version;
+        final List<CatalogQuestion> all;
+        final Map<String, List<CatalogQuestion>> byCategory;
+
+        Snapshot(long version, List<CatalogQuestion> all, Map<String, List<CatalogQuestion>> byCategory) {
+            this.version = version;
+            this.all = all;
+            this.byCategory = byCategory;
+        }
+    }
+}
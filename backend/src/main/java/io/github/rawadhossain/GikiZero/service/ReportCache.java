@@ -0,0 +1,180 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Rendered PDFs on local disk, addressed by a hash of everything that goes
+ * into the document, stored as {@code <userId>/<hash>.pdf}.
+ * <p>
+ * Identical inputs map to the same file, so a report is rendered once and
+ * every later request for it is a file read. Entries are evicted least
+ * recently used first once their total size passes
+ * {@code reports.cache.max-bytes}. New data for a user changes the hash
+ * anyway; {@link #invalidateUser} drops the stale files right away
+ * instead of waiting for them to age out. Reports whose file is gone are
+ * marked stale by {@link ReportJobService#getFile}, never re-rendered.
+ */
+@Service
+public class ReportCache {
+    private static final Logger log = LoggerFactory.getLogger(ReportCache.class);
+
+    @FunctionalInterface
+    public interface Renderer {
+        void write(OutputStream out) throws Exception;
+    }
+
+    private final Path root;
+    private final long maxBytes;
+    // relative path -> size, in access order
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bytesWritten;
+
+    public ReportCache(@Value("${reports.storage-dir}") Path root,
+                       @Value("${reports.cache.max-bytes:1073741824}") long maxBytes,
+                       MeterRegistry meterRegistry) throws IOException {
+        this.root = Files.createDirectories(root);
+        this.maxBytes = maxBytes;
+        index();
+
+        hits = Counter.builder("gikizero.reports.cache").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("gikizero.reports.cache").tag("result", "miss").register(meterRegistry);
+        bytesWritten = Counter.builder("gikizero.reports.bytes")
+                .description("Size of the PDF reports rendered")
+                .baseUnit("bytes")
+                .tag("source", "job")
+                .register(meterRegistry);
+        Gauge.builder("gikizero.reports.cache.size", this, ReportCache::getTotalBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached file for {@code key}, rendering it with {@code renderer} first
+     * if it isn't there. Returns the path relative to the cache root.
+     */
+    public String getOrRender(String userId, String key, Renderer renderer) throws Exception {
+        String name = userId + "/" + key + ".pdf";
+        if (get(name).isPresent()) {
+            hits.increment();
+            return name;
+        }
+        misses.increment();
+
+        Path file = root.resolve(name);
+        Files.createDirectories(file.getParent());
+        Path partial = file.resolveSibling(key + "." + UUID.randomUUID() + ".part");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                renderer.write(out);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        long size = Files.size(file);
+        bytesWritten.increment(size);
+        add(name, size);
+        return name;
+    }
+
+    // Marks the entry as recently used
+    public synchronized Optional<Path> get(String name) {
+        if (entries.get(name) == null) {
+            return Optional.empty();
+        }
+        Path file = root.resolve(name);
+        if (!Files.isReadable(file)) {
+            totalBytes -= entries.remove(name);
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    public synchronized void invalidateUser(String userId) {
+        String prefix = userId + "/";
+        for (Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Long> entry = it.next();
+            if (entry.getKey().startsWith(prefix)) {
+                delete(entry.getKey());
+                totalBytes -= entry.getValue();
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized void add(String name, long size) {
+        Long previous = entries.put(name, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        for (Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator(); totalBytes > maxBytes && it.hasNext(); ) {
+            Map.Entry<String, Long> eldest = it.next();
+            if (eldest.getKey().equals(name)) {
+                continue; // never evict the file about to be served
+            }
+            delete(eldest.getKey());
+            totalBytes -= eldest.getValue();
+            it.remove();
+        }
+    }
+
+    private void delete(String name) {
+        try {
+            Files.deleteIfExists(root.resolve(name));
+        } catch (IOException e) {
+            log.warn("Could not delete cached report {}", name, e);
+        }
+    }
+
+    // Rebuilds the LRU order from file access times after a restart
+    private void index() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(root, 2)) {
+            walk.filter(p -> p.getFileName().toString().endsWith(".pdf") && Files.isRegularFile(p)).forEach(files::add);
+        }
+        files.sort(Comparator.comparing(ReportCache::lastAccess));
+        for (Path file : files) {
+            add(root.relativize(file).toString().replace('\\', '/'), Files.size(file));
+        }
+        log.info("Report cache holds {} files, {} bytes", entries.size(), totalBytes);
+    }
+
+    private static FileTime lastAccess(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastAccessTime();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.PDFReportCreator;
+import io.github.rawadhossain.GikiZero.model.AiTip;
+import io.github.rawadhossain.GikiZero.model.Submission;
+import io.github.rawadhossain.GikiZero.model.User;
+import io.github.rawadhossain.GikiZero.repository.AiTipRepository;
+import io.github.rawadhossain.GikiZero.repository.SubmissionRepository;
+import io.github.rawadhossain.GikiZero.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders a report for every user into {@code reports.export-dir/<jobId>/},
+ * one {@code <userId>.pdf} per user, for organization-wide exports.
+ * <p>
+ * Users are read in keyset pages ordered by id, with the submissions and
+ * tips of a whole page fetched in one query each. The page's PDFs are
+ * rendered in parallel, one worker per core, each straight to its file.
+ * After every page a checkpoint file in the job directory records the last
+ * user id, so a crashed or restarted job resumes after the last finished
+ * page and re-renders at most one page. Only one job runs at a time.
+ * {@link #writeArchive} streams the directory as a ZIP.
+ */
+@Service
+public class ReportExportService {
+    private static final Logger log = LoggerFactory.getLogger(ReportExportService.class);
+
+    static final int PAGE_SIZE = 200;
+
+    private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String CHECKPOINT = "checkpoint.properties";
+
+    private final UserRepository userRepository;
+    private final SubmissionRepository submissionRepository;
+    private final AiTipRepository aiTipRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path exportDir;
+
+    private final ExecutorService renderPool;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> new Thread(r, "report-export-job"));
+    private final AtomicReference<ExportProgress> progress = new AtomicReference<>();
+    private final Timer renderTimer;
+    private final Counter bytesWritten;
+
+    public ReportExportService(UserRepository userRepository, SubmissionRepository submissionRepository,
+                               AiTipRepository aiTipRepository, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                               @Value("${reports.export-dir}") Path exportDir,
+                               @Value("${reports.export.workers:0}") int workers) {
+        this.userRepository = userRepository;
+        this.submissionRepository = submissionRepository;
+        this.aiTipRepository = aiTipRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportDir = exportDir;
+
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.renderPool = Executors.newFixedThreadPool(threads,
+                r -> new Thread(r, "report-export-" + threadNumber.incrementAndGet()));
+
+        new ExecutorServiceMetrics(renderPool, "reports.export", Tags.empty()).bindTo(meterRegistry);
+        this.renderTimer = ReportJobService.renderTimer(meterRegistry, "export");
+        this.bytesWritten = Counter.builder("gikizero.reports.bytes")
+                .description("Size of the PDF reports rendered")
+                .baseUnit("bytes")
+                .tag("source", "export")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts or resumes export {@code jobId} of {@code type} reports in the
+     * background. A resumed job keeps the type and period it started with.
+     * If a job is already running its progress is returned instead.
+     *
+     * @throws IllegalArgumentException if the job id or type is invalid
+     */
+    public synchronized ExportProgress start(String jobId, String type) {
+        jobDir(jobId);
+        ReportJobService.periodStart(type);
+        ExportProgress current = progress.get();
+        if (current != null && current.isRunning()) {
+            return current;
+        }
+        ExportProgress starting = new ExportProgress(jobId, type, ExportProgress.State.RUNNING, 0, 0, 0, null, null);
+        progress.set(starting);
+        runner.submit(() -> run(jobId, type));
+        return starting;
+    }
+
+    public ExportProgress getProgress() {
+        return progress.get();
+    }
+
+    /**
+     * Writes every PDF exported so far by {@code jobId} to {@code out} as a
+     * ZIP archive. PDFs are already compressed, so entries are stored as is.
+     *
+     * @throws IllegalArgumentException if the job id is invalid or unknown
+     */
+    public void writeArchive(String jobId, OutputStream out) throws IOException {
+        List<Path> files = listReports(jobId);
+        ZipOutputStream zip = new ZipOutputStream(out);
+        byte[] buffer = new byte[64 * 1024];
+        for (Path file : files) {
+            ZipEntry entry = new ZipEntry(file.getFileName().toString());
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(Files.size(file));
+            entry.setCrc(crc(file, buffer));
+            zip.putNextEntry(entry);
+            try (InputStream in = Files.newInputStream(file)) {
+                for (int n; (n = in.read(buffer)) > 0; ) {
+                    zip.write(buffer, 0, n);
+                }
+            }
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    /**
+     * The exported PDFs of {@code jobId}.
+     *
+     * @throws IllegalArgumentException if the job id is invalid or unknown
+     */
+    public List<Path> listReports(String jobId) throws IOException {
+        Path dir = jobDir(jobId);
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("Unknown export: " + jobId);
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".pdf")).sorted().toList();
+        }
+    }
+
+    void run(String jobId, String requestedType) {
+        Checkpoint checkpoint = null;
+        long estimatedUsers = estimateUsers();
+        long reportsThisRun = 0;
+        long startedAt = System.nanoTime();
+
+        try {
+            Path dir = Files.createDirectories(jobDir(jobId));
+            checkpoint = Checkpoint.load(dir, requestedType);
+            while (checkpoint.completedAt == null) {
+                List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(
+                        checkpoint.lastUserId, Limit.of(PAGE_SIZE));
+                if (users.isEmpty()) {
+                    checkpoint.completedAt = LocalDateTime.now();
+                    checkpoint.save(dir);
+                    break;
+                }
+
+                renderPage(dir, checkpoint, users);
+                checkpoint.lastUserId = users.get(users.size() - 1).getId();
+                checkpoint.reportsDone += users.size();
+                checkpoint.save(dir);
+                reportsThisRun += users.size();
+
+                double reportsPerSecond = reportsThisRun / Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+                progress.set(new ExportProgress(jobId, checkpoint.type, ExportProgress.State.RUNNING,
+                        checkpoint.reportsDone, estimatedUsers, reportsPerSecond, checkpoint.lastUserId, null));
+                log.info("Export {}: {}/~{} reports, {} reports/s", jobId, checkpoint.reportsDone, estimatedUsers,
+                        Math.round(reportsPerSecond));
+            }
+
+            double seconds = Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+            progress.set(new ExportProgress(jobId, checkpoint.type, ExportProgress.State.COMPLETED,
+                    checkpoint.reportsDone, estimatedUsers, reportsThisRun / seconds, checkpoint.lastUserId, null));
+            log.info("Export {} completed: {} reports", jobId, checkpoint.reportsDone);
+        } catch (IOException | RuntimeException e) {
+            String lastUserId = checkpoint != null ? checkpoint.lastUserId : null;
+            log.error("Export {} failed after {}, resume to continue", jobId, lastUserId, e);
+            progress.set(new ExportProgress(jobId, checkpoint != null ? checkpoint.type : requestedType,
+                    ExportProgress.State.FAILED, checkpoint != null ? checkpoint.reportsDone : 0, estimatedUsers, 0,
+                    lastUserId, e.getMessage()));
+        }
+    }
+
+    private void renderPage(Path dir, Checkpoint checkpoint, List<User> users) {
+        List<String> userIds = users.stream().map(User::getId).toList();
+        Map<String, List<Submission>> submissions = new HashMap<>();
+        for (Submission submission : submissionRepository.findByUser_IdInAndCreatedAtAfterOrderByCreatedAtDesc(
+                userIds, checkpoint.since)) {
+            submissions.computeIfAbsent(submission.getUser().getId(), id -> new ArrayList<>()).add(submission);
+        }
+        Map<String, List<AiTip>> tips = new HashMap<>();
+        for (AiTip tip : aiTipRepository.findByUser_IdIn(userIds)) {
+            tips.computeIfAbsent(tip.getUser().getId(), id -> new ArrayList<>()).add(tip);
+        }
+
+        CompletableFuture<?>[] rendered = new CompletableFuture<?>[users.size()];
+        for (int i = 0; i < rendered.length; i++) {
+            User user = users.get(i);
+            rendered[i] = CompletableFuture.runAsync(() -> renderReport(dir, user, checkpoint.type,
+                    submissions.getOrDefault(user.getId(), List.of()), tips.getOrDefault(user.getId(), List.of())),
+                    renderPool);
+        }
+        try {
+            CompletableFuture.allOf(rendered).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void renderReport(Path dir, User user, String type, List<Submission> submissions, List<AiTip> tips) {
+        Path file = dir.resolve(user.getId() + ".pdf");
+        Path partial = dir.resolve(user.getId() + ".pdf.part");
+        try {
+            Timer.Sample sample = Timer.start();
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                PDFReportCreator.writePDFReport(user, submissions, tips, type, out);
+            }
+            sample.stop(renderTimer);
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            bytesWritten.increment(Files.size(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write report for user " + user.getId(), e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not render report for user " + user.getId(), e);
+        }
+    }
+
+    private Path jobDir(String jobId) {
+        if (jobId == null || !JOB_ID.matcher(jobId).matches()) {
+            throw new IllegalArgumentException("Invalid export job id: " + jobId);
+        }
+        return exportDir.resolve(jobId);
+    }
+
+    // Planner estimate, a count(*) over the whole table would cost a full scan
+    private long estimateUsers() {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE relname = 'users'", Long.class);
+        return rows != null ? Math.max(rows, 0) : 0;
+    }
+
+    private static long crc(Path file, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                crc.update(buffer, 0, n);
+            }
+        }
+        return crc.getValue();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        runner.shutdownNow();
+        renderPool.shutdown();
+        runner.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Where a job stands, kept next to its output so the two cannot drift
+     * apart. Replaced atomically after every page.
+     */
+    private static final class Checkpoint {
+        String type;
+        LocalDateTime since;
+        String lastUserId = "";
+        long reportsDone;
+        LocalDateTime completedAt;
+
+        static Checkpoint load(Path dir, String type) throws IOException {
+            Checkpoint checkpoint = new Checkpoint();
+            Path file = dir.resolve(CHECKPOINT);
+            if (!Files.exists(file)) {
+                checkpoint.type = type;
+                checkpoint.since = ReportJobService.periodStart(type);
+                checkpoint.save(dir);
+                return checkpoint;
+            }
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            }
+            checkpoint.type = properties.getProperty("type");
+            checkpoint.since = LocalDateTime.parse(properties.getProperty("since"));
+            checkpoint.lastUserId = properties.getProperty("lastUserId", "");
+            checkpoint.reportsDone = Long.parseLong(properties.getProperty("reportsDone", "0"));
+            String completedAt = properties.getProperty("completedAt");
+            checkpoint.completedAt = completedAt != null ? LocalDateTime.parse(completedAt) : null;
+            return checkpoint;
+        }
+
+        void save(Path dir) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("type", type);
+            properties.setProperty("since", since.toString());
+            properties.setProperty("lastUserId", lastUserId);
+            properties.setProperty("reportsDone", Long.toString(reportsDone));
+            if (completedAt != null) {
+                properties.setProperty("completedAt", completedAt.toString());
+            }
+            Path partial = dir.resolve(CHECKPOINT + ".part");
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                properties.store(out, null);
+            }
+            Files.move(partial, dir.resolve(CHECKPOINT), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.PDFReportCreator;
+import io.github.rawadhossain.GikiZero.data.ReportStatus;
+import io.github.rawadhossain.GikiZero.model.AiTip;
+import io.github.rawadhossain.GikiZero.model.Report;
+import io.github.rawadhossain.GikiZero.model.Submission;
+import io.github.rawadhossain.GikiZero.model.User;
+import io.github.rawadhossain.GikiZero.repository.AiTipRepository;
+import io.github.rawadhossain.GikiZero.repository.ReportRepository;
+import io.github.rawadhossain.GikiZero.repository.SubmissionRepository;
+import io.github.rawadhossain.GikiZero.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates PDF reports in the background.
+ * <p>
+ * {@link #submit} records a {@link Report} in state {@code QUEUED} and hands
+ * it to a fixed pool of workers in front of a bounded queue. When the queue
+ * is full the submission is refused with a {@link RejectedExecutionException}
+ * instead of piling up work, so callers can ask the client to retry later.
+ * Finished PDFs live in the {@link ReportCache}; a report whose inputs have
+ * not changed since it was last rendered is served from there instead of
+ * being rendered again.
+ */
+@Service
+public class ReportJobService {
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+
+    private final ReportRepository reportRepository;
+    private final UserRepository userRepository;
+    private final SubmissionRepository submissionRepository;
+    private final AiTipRepository aiTipRepository;
+    private final ReportCache reportCache;
+    private final ThreadPoolExecutor executor;
+    private final Timer renderTimer;
+    private final Timer streamTimer;
+    private final Counter streamedBytes;
+
+    public ReportJobService(ReportRepository reportRepository, UserRepository userRepository,
+                            SubmissionRepository submissionRepository, AiTipRepository aiTipRepository,
+                            ReportCache reportCache, MeterRegistry meterRegistry,
+                            @Value("${reports.workers:0}") int workers,
+                            @Value("${reports.queue-capacity:100}") int queueCapacity) {
+        this.reportRepository = reportRepository;
+        this.userRepository = userRepository;
+        this.submissionRepository = submissionRepository;
+        this.aiTipRepository = aiTipRepository;
+        this.reportCache = reportCache;
+
+        // PDF rendering is CPU bound, by default leave half the cores to request threads
+        int threads = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> new Thread(r, "report-worker-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // executor.queued, executor.active etc. tagged name=reports
+        new ExecutorServiceMetrics(executor, "reports", Tags.empty()).bindTo(meterRegistry);
+        this.renderTimer = renderTimer(meterRegistry, "job");
+        this.streamTimer = renderTimer(meterRegistry, "stream");
+        // rendered-and-cached files are counted by ReportCache under source=job
+        this.streamedBytes = Counter.builder("gikizero.reports.bytes")
+                .description("Size of the PDF reports rendered")
+                .baseUnit("bytes")
+                .tag("source", "stream")
+                .register(meterRegistry);
+    }
+
+    static Timer renderTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("gikizero.reports.render")
+                .description("Time to lay out and write one PDF report")
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a report of {@code type} for {@code userId} and returns its
+     * status right away.
+     *
+     * @throws IllegalArgumentException if the user or type is unknown
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public ReportStatus submit(String userId, String type) {
+        periodStart(type);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown user: " + userId));
+
+        Report report = new Report();
+        report.setType(type);
+        report.setUser(user);
+        report.setStatus(Report.Status.QUEUED);
+        Report queued = reportRepository.save(report);
+        try {
+            executor.execute(() -> render(queued.getId(), userId));
+        } catch (RejectedExecutionException e) {
+            reportRepository.delete(queued);
+            throw e;
+        }
+        return status(queued);
+    }
+
+    public Optional<ReportStatus> getStatus(String reportId) {
+        return reportRepository.findById(reportId).map(ReportJobService::status);
+    }
+
+    /**
+     * The rendered PDF of a completed report, empty while the job is queued,
+     * running or failed. A report whose file was invalidated or evicted from
+     * the cache is marked {@link Report.Status#STALE} and stays empty; it is
+     * not rendered again, since the user's current data would give a
+     * different document under the same report.
+     */
+    public Optional<Path> getFile(Report report) {
+        if (report.getStatus() != Report.Status.COMPLETED || report.getFilename() == null) {
+            return Optional.empty();
+        }
+        Optional<Path> cached = reportCache.get(report.getFilename());
+        if (cached.isEmpty()) {
+            report.setStatus(Report.Status.STALE);
+            reportRepository.save(report);
+        }
+        return cached;
+    }
+
+    // Content hash of the cached file, usable as an ETag
+    public static String contentKey(Report report) {
+        String name = report.getFilename();
+        return name.substring(name.lastIndexOf('/') + 1, name.length() - ".pdf".length());
+    }
+
+    /**
+     * Checks that a report of {@code type} can be rendered for {@code userId}.
+     *
+     * @throws IllegalArgumentException if the user or type is unknown
+     */
+    public void checkReport(String userId, String type) {
+        periodStart(type);
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("Unknown user: " + userId);
+        }
+    }
+
+    /**
+     * Renders a report for {@code userId} straight into {@code out} without
+     * recording it, for clients that download while it is generated.
+     *
+     * @throws IllegalArgumentException if the user or type is unknown
+     */
+    public void writeReport(String userId, String type, OutputStream out) throws Exception {
+        LocalDateTime since = periodStart(type);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown user: " + userId));
+        List<Submission> submissions = submissionRepository.findByUser_IdAndCreatedAtAfterOrderByCreatedAtDesc(userId, since);
+        List<AiTip> tips = aiTipRepository.findByUser_Id(userId);
+        CountingOutputStream counted = new CountingOutputStream(out);
+        Timer.Sample sample = Timer.start();
+        try {
+            PDFReportCreator.writePDFReport(user, submissions, tips, type, counted);
+            sample.stop(streamTimer);
+        } finally {
+            // what reached the client, also when it went away halfway
+            streamedBytes.increment(counted.count);
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveWorkers() {
+        return executor.getActiveCount();
+    }
+
+    void render(String reportId, String userId) {
+        Report report = reportRepository.findById(reportId).orElse(null);
+        if (report == null) {
+            return; // deleted while queued
+        }
+        report.setStatus(Report.Status.RUNNING);
+        report.setStartedAt(LocalDateTime.now());
+        report = reportRepository.save(report);
+
+        try {
+            String filename = renderToCache(userId, report.getType());
+            report.setFilename(filename);
+            report.setSizeBytes(Files.size(reportCache.get(filename).orElseThrow()));
+            report.setStatus(Report.Status.COMPLETED);
+        } catch (Exception e) {
+            log.error("Report {} for user {} failed", reportId, userId, e);
+            report.setStatus(Report.Status.FAILED);
+            String error = String.valueOf(e.getMessage());
+            report.setError(error.length() > 1000 ? error.substring(0, 1000) : error);
+        }
+        report.setCompletedAt(LocalDateTime.now());
+        reportRepository.save(report);
+    }
+
+    private String renderToCache(String userId, String type) throws Exception {
+        User user = userRepository.findById(userId).orElseThrow();
+        List<Submission> submissions = submissionRepository.findByUser_IdAndCreatedAtAfterOrderByCreatedAtDesc(
+                userId, periodStart(type));
+        List<AiTip> tips = aiTipRepository.findByUser_Id(userId);
+        return reportCache.getOrRender(userId, cacheKey(user, type, submissions, tips), out -> {
+            Timer.Sample sample = Timer.start();
+            PDFReportCreator.writePDFReport(user, submissions, tips, type, out);
+            sample.stop(renderTimer);
+        });
+    }
+
+    /**
+     * SHA-256 over everything that shapes the document: the user's profile
+     * fields, the report type, the template version and the id and last
+     * update of every submission and tip in it.
+     */
+    static String cacheKey(User user, String type, List<Submission> submissions, List<AiTip> tips) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder input = new StringBuilder()
+                .append(PDFReportCreator.TEMPLATE_VERSION).append('\n')
+                .append(type).append('\n')
+                .append(user.getId()).append('|').append(user.getName()).append('|').append(user.getEmail())
+                .append('|').append(user.getAge()).append('|').append(user.getLocation())
+                .append('|').append(user.getCurrentStreak()).append('|').append(user.getTotalPoints()).append('\n');
+        for (Submission submission : submissions) {
+            input.append(submission.getId()).append('@').append(submission.getUpdatedAt()).append('\n');
+        }
+        input.append("tips\n");
+        for (AiTip tip : tips) {
+            input.append(tip.getId()).append('@').append(tip.getCreatedAt()).append('\n');
+        }
+        return HexFormat.of().formatHex(digest.digest(input.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // weekly, monthly, quarterly or yearly: how far back the report looks
+    static LocalDateTime periodStart(String type) {
+        LocalDateTime now = LocalDateTime.now();
+        return switch (type == null ? "" : type) {
+            case "weekly" -> now.minusWeeks(1);
+            case "monthly" -> now.minusMonths(1);
+            case "quarterly" -> now.minusMonths(3);
+            case "yearly" -> now.minusYears(1);
+            default -> throw new IllegalArgumentException("Unknown report type: " + type);
+        };
+    }
+
+    static ReportStatus status(Report report) {
+        return new ReportStatus(report.getId(), report.getType(),
+                report.getStatus() != null ? report.getStatus().name() : null, report.getCreatedAt(),
+                report.getStartedAt(), report.getCompletedAt(), report.getSizeBytes(), report.getError());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // Counts the bytes passed through to the wrapped stream
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package io.github.rawadhossain.GikiZero.service;
 
+import io.github.rawadhossain.GikiZero.data.CursorPage;
 import io.github.rawadhossain.GikiZero.model.Report;
 import io.github.rawadhossain.GikiZero.repository.ReportRepository;
+import io.github.rawadhossain.GikiZero.repository.ReportSummary;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -15,16 +16,18 @@ public class ReportService {
         this.reportRepository = reportRepository;
     }
 
-    public List<Report> getAllReports() {
-        return reportRepository.findAll();
+    public CursorPage<?> getAllReports(String cursor, Integer size, String view) {
+        return CursorPage.of(reportRepository.findAllByOrderByCreatedAtDescIdDesc(
+                CursorPage.position(cursor), CursorPage.limit(size), projection(view)));
     }
 
     public Optional<Report> getReportById(String id) {
         return reportRepository.findById(id);
     }
 
-    public List<Report> getReportsByUser(String userId) {
-        return reportRepository.findByUser_Id(userId);
+    public CursorPage<?> getReportsByUser(String userId, String cursor, Integer size, String view) {
+        return CursorPage.of(reportRepository.findByUser_IdOrderByCreatedAtDescIdDesc(
+                userId, CursorPage.position(cursor), CursorPage.limit(size), projection(view)));
     }
 
     public Report createReport(Report report) {
@@ -34,4 +37,12 @@ public class ReportService {
     public void deleteReport(String id) {
         reportRepository.deleteById(id);
     }
+
+    private static Class<?> projection(String view) {
+        return switch (view) {
+            case "full" -> Report.class;
+            case "summary" -> ReportSummary.class;
+            default -> throw new IllegalArgumentException("Unknown view: " + view);
+        };
+    }
 }
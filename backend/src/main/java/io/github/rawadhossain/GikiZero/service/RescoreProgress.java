@@ -0,0 +1,39 @@
+package io.github.rawadhossain.GikiZero.service;
+
+/**
+ * Snapshot of a bulk rescoring job as reported by {@link RescoreService}.
+ */
+public class RescoreProgress {
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final String jobId;
+    private final State state;
+    private final long rowsDone;
+    private final long estimatedRows;
+    private final double rowsPerSecond;
+    private final String lastSubmissionId;
+    private final String error;
+
+    RescoreProgress(String jobId, State state, long rowsDone, long estimatedRows, double rowsPerSecond,
+                    String lastSubmissionId, String error) {
+        this.jobId = jobId;
+        this.state = state;
+        this.rowsDone = rowsDone;
+        this.estimatedRows = estimatedRows;
+        this.rowsPerSecond = rowsPerSecond;
+        this.lastSubmissionId = lastSubmissionId;
+        this.error = error;
+    }
+
+    public String getJobId() { return jobId; }
+    public State getState() { return state; }
+    public long getRowsDone() { return rowsDone; }
+    public long getEstimatedRows() { return estimatedRows; }
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public String getLastSubmissionId() { return lastSubmissionId; }
+    public String getError() { return error; }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
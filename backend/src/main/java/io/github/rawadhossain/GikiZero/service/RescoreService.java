@@ -0,0 +1,259 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.BatchScore;
+import io.github.rawadhossain.GikiZero.data.CarbonScoringEngine;
+import io.github.rawadhossain.GikiZero.data.EmissionCategory;
+import io.github.rawadhossain.GikiZero.data.SubmissionBatch;
+import io.github.rawadhossain.GikiZero.model.RescoreCheckpoint;
+import io.github.rawadhossain.GikiZero.repository.RescoreCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rescores the whole submissions table after an emission factor change.
+ * <p>
+ * Submissions are read in keyset pages ordered by id, each page is scored
+ * on a fork/join pool with one worker per core and written back with a
+ * JDBC batch update. The job's {@link RescoreCheckpoint} is committed in
+ * the same transaction as the page, so a crashed or restarted job picks up
+ * after the last committed page. Only one job runs at a time.
+ */
+@Service
+public class RescoreService {
+    private static final Logger log = LoggerFactory.getLogger(RescoreService.class);
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, transportation_type, transportation_frequency, transportation_distance,
+                   electricity_units, renewable_energy, water_usage, diet_type, food_waste_level,
+                   clothes_per_month, recycling_habits, streaming_habits, air_travel_freq, appliance_usage
+            FROM submissions
+            """;
+    private static final String SELECT_FIRST_CHUNK = SELECT_COLUMNS + " ORDER BY id LIMIT ?";
+    private static final String SELECT_NEXT_CHUNK = SELECT_COLUMNS + " WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_SCORES = """
+            UPDATE submissions SET transportation_score = ?, energy_score = ?, water_score = ?, diet_score = ?,
+                food_waste_score = ?, shopping_score = ?, waste_score = ?, electronics_score = ?,
+                travel_score = ?, appliance_score = ?, total_emission_score = ?, impact_category = ?,
+                factor_model_version = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RescoreCheckpointRepository checkpointRepository;
+    private final UserEmissionRollupService rollupService;
+    private final EmissionBucketService bucketService;
+
+    private final ForkJoinPool scoringPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> new Thread(r, "rescore-job"));
+    private final AtomicReference<RescoreProgress> progress = new AtomicReference<>();
+    private final Timer scoringTimer;
+    private final Counter scoredCounter;
+
+    public RescoreService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          RescoreCheckpointRepository checkpointRepository, UserEmissionRollupService rollupService,
+                          EmissionBucketService bucketService, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.rollupService = rollupService;
+        this.bucketService = bucketService;
+        this.scoringTimer = Timer.builder("gikizero.scoring")
+                .description("Time spent in the scoring engine per call")
+                .tag("source", "rescore")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.scoredCounter = Counter.builder("gikizero.submissions.scored")
+                .tag("source", "rescore")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(scoringPool, "rescore.scoring", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Starts or resumes job {@code jobId} in the background. If a job is
+     * already running its progress is returned instead.
+     */
+    public synchronized RescoreProgress start(String jobId) {
+        RescoreProgress current = progress.get();
+        if (current != null && current.isRunning()) {
+            return current;
+        }
+        RescoreProgress starting = new RescoreProgress(jobId, RescoreProgress.State.RUNNING, 0, 0, 0, null, null);
+        progress.set(starting);
+        runner.submit(() -> run(jobId));
+        return starting;
+    }
+
+    public RescoreProgress getProgress() {
+        return progress.get();
+    }
+
+    void run(String jobId) {
+        RescoreCheckpoint checkpoint = checkpointRepository.findById(jobId).orElseGet(() -> {
+            RescoreCheckpoint created = new RescoreCheckpoint();
+            created.setJobId(jobId);
+            return created;
+        });
+        long estimatedRows = estimateRows();
+        long rowsThisRun = 0;
+        long startedAt = System.nanoTime();
+
+        try {
+            while (checkpoint.getCompletedAt() == null) {
+                Chunk chunk = readChunk(checkpoint.getLastSubmissionId());
+                if (chunk.size == 0) {
+                    rollupService.rebuildAll();
+                    bucketService.rebuildAll();
+                    checkpoint.setCompletedAt(LocalDateTime.now());
+                    checkpoint = checkpointRepository.save(checkpoint);
+                    break;
+                }
+
+                BatchScore scores = scoringTimer.record(() -> CarbonScoringEngine.scoreBatch(chunk.batch, scoringPool));
+                scoredCounter.increment(chunk.size);
+                checkpoint = commitChunk(checkpoint, chunk, scores);
+                rowsThisRun += chunk.size;
+
+                double rowsPerSecond = rowsThisRun / Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+                progress.set(new RescoreProgress(jobId, RescoreProgress.State.RUNNING, checkpoint.getRowsDone(),
+                        estimatedRows, rowsPerSecond, checkpoint.getLastSubmissionId(), null));
+                log.info("Rescore {}: {}/~{} rows, {} rows/s", jobId, checkpoint.getRowsDone(), estimatedRows,
+                        Math.round(rowsPerSecond));
+            }
+
+            double seconds = Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+            progress.set(new RescoreProgress(jobId, RescoreProgress.State.COMPLETED, checkpoint.getRowsDone(),
+                    estimatedRows, rowsThisRun / seconds, checkpoint.getLastSubmissionId(), null));
+            log.info("Rescore {} completed: {} rows", jobId, checkpoint.getRowsDone());
+        } catch (Throwable e) {
+            // an Error such as OutOfMemoryError on a chunk must not leave the job reported as RUNNING
+            log.error("Rescore {} failed after {}, resume to continue", jobId, checkpoint.getLastSubmissionId(), e);
+            progress.set(new RescoreProgress(jobId, RescoreProgress.State.FAILED, checkpoint.getRowsDone(),
+                    estimatedRows, 0, checkpoint.getLastSubmissionId(), e.getMessage()));
+        }
+    }
+
+    private RescoreCheckpoint commitChunk(RescoreCheckpoint checkpoint, Chunk chunk, BatchScore scores) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_SCORES, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int row) throws SQLException {
+                    int p = 1;
+                    for (EmissionCategory category : EmissionCategory.STORED) {
+                        ps.setDouble(p++, scores.get(category, row));
+                    }
+                    ps.setDouble(p++, scores.getTotals()[row]);
+                    ps.setString(p++, scores.getImpactCategories()[row]);
+                    ps.setString(p++, scores.getModelVersion());
+                    ps.setTimestamp(p++, now);
+                    ps.setString(p, chunk.ids[row]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return chunk.size;
+                }
+            });
+            checkpoint.setLastSubmissionId(chunk.ids[chunk.size - 1]);
+            checkpoint.setRowsDone(checkpoint.getRowsDone() + chunk.size);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            return checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private Chunk readChunk(String afterId) {
+        Chunk chunk = new Chunk();
+        if (afterId == null) {
+            jdbcTemplate.query(SELECT_FIRST_CHUNK, chunk, CHUNK_SIZE);
+        } else {
+            jdbcTemplate.query(SELECT_NEXT_CHUNK, chunk, afterId, CHUNK_SIZE);
+        }
+        chunk.finish();
+        return chunk;
+    }
+
+    // Planner estimate, a count(*) over the whole table would cost a full scan
+    private long estimateRows() {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE relname = 'submissions'", Long.class);
+        return rows != null ? Math.max(rows, 0) : 0;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        runner.shutdownNow();
+        scoringPool.shutdown();
+        runner.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * One keyset page of answers, read straight into the columns of a {@link SubmissionBatch}.
+     */
+    private static final class Chunk implements RowCallbackHandler {
+        final String[] ids = new String[CHUNK_SIZE];
+        final String[][] columns = new String[12][CHUNK_SIZE];
+        final boolean[] renewable = new boolean[CHUNK_SIZE];
+        final SubmissionBatch batch = new SubmissionBatch();
+        int size;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            ids[size] = rs.getString(1);
+            for (int c = 0; c < 4; c++) {
+                columns[c][size] = rs.getString(2 + c);
+            }
+            renewable[size] = rs.getBoolean(6);
+            for (int c = 4; c < 12; c++) {
+                columns[c][size] = rs.getString(3 + c);
+            }
+            size++;
+        }
+
+        void finish() {
+            batch.setTransportationType(trim(columns[0]));
+            batch.setTransportationFrequency(trim(columns[1]));
+            batch.setTransportationDistance(trim(columns[2]));
+            batch.setElectricityUnits(trim(columns[3]));
+            batch.setRenewableEnergy(Arrays.copyOf(renewable, size));
+            batch.setWaterUsage(trim(columns[4]));
+            batch.setDietType(trim(columns[5]));
+            batch.setFoodWasteLevel(trim(columns[6]));
+            batch.setClothesPerMonth(trim(columns[7]));
+            batch.setRecyclingHabits(trim(columns[8]));
+            batch.setStreamingHabits(trim(columns[9]));
+            batch.setAirTravelFreq(trim(columns[10]));
+            batch.setApplianceUsage(trim(columns[11]));
+        }
+
+        private String[] trim(String[] column) {
+            return size == column.length ? column : Arrays.copyOf(column, size);
+        }
+    }
+}
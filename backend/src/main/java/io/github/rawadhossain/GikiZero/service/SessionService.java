@@ -0,0 +1,137 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.rawadhossain.GikiZero.data.ResolvedSession;
+import io.github.rawadhossain.GikiZero.model.Session;
+import io.github.rawadhossain.GikiZero.repository.SessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resolves session tokens to users, answering most lookups from memory.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token, so the cache never holds a
+ * usable credential. A valid session stays cached until its
+ * {@code expires}, but at most {@code sessions.cache.max-ttl-ms}, which
+ * bounds how long a logout on another instance can go unnoticed here.
+ * Unknown and expired tokens are cached as absent for
+ * {@code sessions.cache.negative-ttl-ms}, so repeated bogus tokens don't
+ * reach the database either. Logging out through this service drops the
+ * entry right away.
+ */
+@Service
+public class SessionService {
+    private final SessionRepository sessionRepository;
+    private final Cache<String, Optional<ResolvedSession>> sessions;
+
+    public SessionService(SessionRepository sessionRepository, MeterRegistry meterRegistry,
+                          @Value("${sessions.cache.max-size:100000}") long maxSize,
+                          @Value("${sessions.cache.max-ttl-ms:300000}") long maxTtlMs,
+                          @Value("${sessions.cache.negative-ttl-ms:30000}") long negativeTtlMs) {
+        this.sessionRepository = sessionRepository;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new SessionExpiry(Duration.ofMillis(maxTtlMs), Duration.ofMillis(negativeTtlMs)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "sessions");
+    }
+
+    /**
+     * The session behind {@code token}, empty if the token is unknown or
+     * the session has expired.
+     */
+    public Optional<ResolvedSession> resolve(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        return sessions.get(hash(token), key -> load(token))
+                .filter(session -> session.getExpires().isAfter(LocalDateTime.now()));
+    }
+
+    // Deletes the session; the token is remembered as unknown from now on
+    public void logout(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        sessionRepository.findBySessionToken(token).ifPresent(sessionRepository::delete);
+        sessions.put(hash(token), Optional.empty());
+    }
+
+    // Deletes every session of the user, e.g. before the user is deleted
+    public void logoutUser(String userId) {
+        List<Session> userSessions = sessionRepository.findByUserId(userId);
+        sessionRepository.deleteAll(userSessions);
+        for (Session session : userSessions) {
+            if (session.getSessionToken() != null) {
+                sessions.put(hash(session.getSessionToken()), Optional.empty());
+            }
+        }
+    }
+
+    private Optional<ResolvedSession> load(String token) {
+        return sessionRepository.findBySessionToken(token)
+                .filter(session -> session.getExpires() != null && session.getExpires().isAfter(LocalDateTime.now()))
+                .map(session -> new ResolvedSession(session.getId(), session.getUser().getId(), session.getExpires()));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Valid sessions live until they expire, capped at {@code maxTtl};
+     * absent ones for {@code negativeTtl}. Reads don't extend either.
+     */
+    private static final class SessionExpiry implements Expiry<String, Optional<ResolvedSession>> {
+        private final Duration maxTtl;
+        private final Duration negativeTtl;
+
+        SessionExpiry(Duration maxTtl, Duration negativeTtl) {
+            this.maxTtl = maxTtl;
+            this.negativeTtl = negativeTtl;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<ResolvedSession> value, long currentTime) {
+            if (value.isEmpty()) {
+                return negativeTtl.toNanos();
+            }
+            Duration untilExpiry = Duration.between(LocalDateTime.now(), value.get().getExpires());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return (untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<ResolvedSession> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<ResolvedSession> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,41 +1,241 @@
 package io.github.rawadhossain.GikiZero.service;
 
+import io.github.rawadhossain.GikiZero.data.BatchScore;
+import io.github.rawadhossain.GikiZero.data.CarbonScore;
+import io.github.rawadhossain.GikiZero.data.CarbonScoringEngine;
+import io.github.rawadhossain.GikiZero.data.CursorPage;
+import io.github.rawadhossain.GikiZero.data.EmissionCategory;
+import io.github.rawadhossain.GikiZero.data.SubmissionBatch;
+import io.github.rawadhossain.GikiZero.data.SubmissionData;
 import io.github.rawadhossain.GikiZero.model.Submission;
 import io.github.rawadhossain.GikiZero.repository.SubmissionRepository;
+import io.github.rawadhossain.GikiZero.repository.SubmissionSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class SubmissionService {
+    // Rows per JDBC batch when persisting a scored SubmissionBatch
+    static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SUBMISSION = """
+            INSERT INTO submissions (id, user_id,
+                transportation_type, transportation_frequency, transportation_distance, transportation_score,
+                electricity_units, renewable_energy, energy_score,
+                water_usage, water_score, diet_type, diet_score, food_waste_level, food_waste_score,
+                clothes_per_month, shopping_score, recycling_habits, waste_score,
+                streaming_habits, electronics_score, air_travel_freq, travel_score,
+                appliance_usage, appliance_score, total_emission_score, impact_category, factor_model_version,
+                created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
     private final SubmissionRepository submissionRepository;
+    private final UserEmissionRollupService rollupService;
+    private final EmissionBucketService bucketService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReportCache reportCache;
+    private final Timer scoringTimer;
+    private final Counter scoredCounter;
+    private final int maxBatchRows;
 
-    public SubmissionService(SubmissionRepository submissionRepository) {
+    public SubmissionService(SubmissionRepository submissionRepository, UserEmissionRollupService rollupService,
+                             EmissionBucketService bucketService, JdbcTemplate jdbcTemplate, ReportCache reportCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${submissions.batch.max-rows:10000}") int maxBatchRows) {
         this.submissionRepository = submissionRepository;
+        this.rollupService = rollupService;
+        this.bucketService = bucketService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reportCache = reportCache;
+        this.scoringTimer = Timer.builder("gikizero.scoring")
+                .description("Time spent in the scoring engine per call")
+                .tag("source", "api")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.scoredCounter = Counter.builder("gikizero.submissions.scored")
+                .tag("source", "api")
+                .register(meterRegistry);
+        this.maxBatchRows = maxBatchRows;
     }
 
-    public List<Submission> getAllSubmissions() {
-        return submissionRepository.findAll();
+    public CursorPage<?> getAllSubmissions(String cursor, Integer size, String view) {
+        return CursorPage.of(submissionRepository.findAllByOrderByCreatedAtDescIdDesc(
+                CursorPage.position(cursor), CursorPage.limit(size), projection(view)));
     }
 
     public Optional<Submission> getSubmissionById(String id) {
         return submissionRepository.findById(id);
     }
 
+    /**
+     * Scores the submission's answers with the current emission factor
+     * model, replacing any scores sent by the client, and saves it.
+     */
+    @Transactional
     public Submission createSubmission(Submission submission) {
-        return submissionRepository.save(submission);
+        score(submission);
+        Submission saved = submissionRepository.save(submission);
+        rollupService.recordSubmission(saved);
+        bucketService.recordSubmission(saved);
+        reportCache.invalidateUser(saved.getUser().getId());
+        return saved;
+    }
+
+    /**
+     * Scores a columnar block of answers in one pass and inserts every row
+     * with JDBC batches instead of one entity save per submission. Like a
+     * single submission, a row is scored on the answers the submissions
+     * table stores; the others are ignored, so its total can be rebuilt
+     * from the row.
+     *
+     * @throws IllegalArgumentException if the batch has more than
+     *         {@code submissions.batch.max-rows} rows or names a user that
+     *         doesn't exist; nothing is scored or written then
+     */
+    @Transactional
+    public BatchScore createSubmissions(SubmissionBatch answers) {
+        if (answers.size() > maxBatchRows) {
+            throw new IllegalArgumentException("A batch may hold at most " + maxBatchRows + " rows");
+        }
+        SubmissionBatch batch = answers.storedAnswers();
+        String[] userIds = Arrays.stream(batch.getUserId()).distinct().toArray(String[]::new);
+        if (Arrays.asList(userIds).contains(null)) {
+            throw new IllegalArgumentException("Every row needs a userId");
+        }
+        // one lookup for the whole batch instead of a foreign key failure halfway through the inserts
+        Long known = jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE id = ANY(?)", Long.class,
+                (Object) userIds);
+        if (known == null || known != userIds.length) {
+            throw new IllegalArgumentException("The batch names unknown users");
+        }
+
+        BatchScore result = scoringTimer.record(() -> CarbonScoringEngine.scoreBatch(batch));
+        int rows = result.size();
+        scoredCounter.increment(rows);
+        LocalDateTime createdAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(createdAt);
+
+        for (int from = 0; from < rows; from += INSERT_BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(rows, from + INSERT_BATCH_SIZE);
+            jdbcTemplate.batchUpdate(INSERT_SUBMISSION, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bindRow(ps, batch, result, start + i, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return end - start;
+                }
+            });
+        }
+        rollupService.recordBatch(batch.getUserId(), result, createdAt);
+        bucketService.recordBatch(batch.getUserId(), result, createdAt);
+        // a batch can hold rows of several users
+        Arrays.stream(userIds).forEach(reportCache::invalidateUser);
+        return result;
     }
 
+    @Transactional
     public void deleteSubmission(String id) {
-        submissionRepository.deleteById(id);
+        submissionRepository.findById(id).ifPresent(submission -> {
+            submissionRepository.delete(submission);
+            submissionRepository.flush();
+            rollupService.removeSubmission(submission);
+            bucketService.removeSubmission(submission);
+            reportCache.invalidateUser(submission.getUser().getId());
+        });
+    }
+
+    public CursorPage<?> getSubmissionsByUser(String userId, String cursor, Integer size, String view) {
+        return CursorPage.of(submissionRepository.findByUser_IdOrderByCreatedAtDescIdDesc(
+                userId, CursorPage.position(cursor), CursorPage.limit(size), projection(view)));
+    }
+
+    public CursorPage<?> getSubmissionsSince(String userId, LocalDateTime date, String cursor, Integer size, String view) {
+        return CursorPage.of(submissionRepository.findByUser_IdAndCreatedAtAfterOrderByCreatedAtDescIdDesc(
+                userId, date, CursorPage.position(cursor), CursorPage.limit(size), projection(view)));
+    }
+
+    // "summary" selects only SubmissionSummary columns, "full" the whole entity
+    private static Class<?> projection(String view) {
+        return switch (view) {
+            case "full" -> Submission.class;
+            case "summary" -> SubmissionSummary.class;
+            default -> throw new IllegalArgumentException("Unknown view: " + view);
+        };
+    }
+
+    private static void bindRow(PreparedStatement ps, SubmissionBatch batch, BatchScore scores, int row, Timestamp now)
+            throws SQLException {
+        int p = 1;
+        ps.setString(p++, UUID.randomUUID().toString());
+        ps.setString(p++, batch.getUserId()[row]);
+        ps.setString(p++, at(batch.getTransportationType(), row));
+        ps.setString(p++, at(batch.getTransportationFrequency(), row));
+        ps.setString(p++, at(batch.getTransportationDistance(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.TRANSPORTATION, row));
+        ps.setString(p++, at(batch.getElectricityUnits(), row));
+        ps.setBoolean(p++, batch.getRenewableEnergy() != null && batch.getRenewableEnergy()[row]);
+        ps.setDouble(p++, scores.get(EmissionCategory.ENERGY, row));
+        ps.setString(p++, at(batch.getWaterUsage(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.WATER, row));
+        ps.setString(p++, at(batch.getDietType(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.DIET, row));
+        ps.setString(p++, at(batch.getFoodWasteLevel(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.FOOD_WASTE, row));
+        ps.setString(p++, at(batch.getClothesPerMonth(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.SHOPPING, row));
+        ps.setString(p++, at(batch.getRecyclingHabits(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.WASTE, row));
+        ps.setString(p++, at(batch.getStreamingHabits(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.ELECTRONICS, row));
+        ps.setString(p++, at(batch.getAirTravelFreq(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.TRAVEL, row));
+        ps.setString(p++, at(batch.getApplianceUsage(), row));
+        ps.setDouble(p++, scores.get(EmissionCategory.APPLIANCE, row));
+        ps.setDouble(p++, scores.getTotals()[row]);
+        ps.setString(p++, scores.getImpactCategories()[row]);
+        ps.setString(p++, scores.getModelVersion());
+        ps.setTimestamp(p++, now);
+        ps.setTimestamp(p, now);
     }
 
-    public List<Submission> getSubmissionsByUser(String userId) {
-        return submissionRepository.findByUser_IdOrderByCreatedAtDesc(userId);
+    private void score(Submission submission) {
+        CarbonScore score = scoringTimer.record(() -> CarbonScoringEngine.score(SubmissionData.of(submission)));
+        scoredCounter.increment();
+        submission.setTransportationScore(score.get(EmissionCategory.TRANSPORTATION));
+        submission.setEnergyScore(score.get(EmissionCategory.ENERGY));
+        submission.setWaterScore(score.get(EmissionCategory.WATER));
+        submission.setDietScore(score.get(EmissionCategory.DIET));
+        submission.setFoodWasteScore(score.get(EmissionCategory.FOOD_WASTE));
+        submission.setShoppingScore(score.get(EmissionCategory.SHOPPING));
+        submission.setWasteScore(score.get(EmissionCategory.WASTE));
+        submission.setElectronicsScore(score.get(EmissionCategory.ELECTRONICS));
+        submission.setTravelScore(score.get(EmissionCategory.TRAVEL));
+        submission.setApplianceScore(score.get(EmissionCategory.APPLIANCE));
+        submission.setTotalEmissionScore(score.getTotalScore());
+        submission.setImpactCategory(score.getImpactCategory());
+        submission.setFactorModelVersion(score.getModelVersion());
     }
 
-    public List<Submission> getSubmissionsSince(String userId, LocalDateTime date) {
-        return submissionRepository.findByUser_IdAndCreatedAtAfterOrderByCreatedAtDesc(userId, date);
+    private static String at(String[] column, int row) {
+        return column != null ? column[row] : null;
     }
 }
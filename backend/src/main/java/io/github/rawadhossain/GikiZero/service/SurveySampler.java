@@ -0,0 +1,57 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.CatalogQuestion;
+import io.github.rawadhossain.GikiZero.data.QuestionSampler;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks survey questions from the {@link QuestionCatalog}, weighted by
+ * {@code Question.weight}. Without a seed each request draws from its own
+ * thread's {@code ThreadLocalRandom}; with one the draw is reproducible for
+ * as long as the catalog version stays the same.
+ */
+@Service
+public class SurveySampler {
+
+    static final int MAX_QUESTIONS = 50;
+
+    private final QuestionCatalog questionCatalog;
+
+    public SurveySampler(QuestionCatalog questionCatalog) {
+        this.questionCatalog = questionCatalog;
+    }
+
+    public List<CatalogQuestion> sample(int count, Long seed) {
+        if (count < 1 || count > MAX_QUESTIONS) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_QUESTIONS);
+        }
+        return QuestionSampler.sample(questionCatalog.getActiveQuestions(), CatalogQuestion::getWeight, count,
+                random(seed));
+    }
+
+    // quotas: category -> number of questions to draw from it
+    public List<CatalogQuestion> sample(Map<String, Integer> quotas, Long seed) {
+        int total = 0;
+        for (int quota : quotas.values()) {
+            if (quota < 0) {
+                throw new IllegalArgumentException("Quotas must not be negative");
+            }
+            total += quota;
+        }
+        if (total > MAX_QUESTIONS) {
+            throw new IllegalArgumentException("At most " + MAX_QUESTIONS + " questions can be drawn");
+        }
+        return QuestionSampler.sample(questionCatalog.getActiveQuestionsByCategory(), quotas,
+                CatalogQuestion::getWeight, random(seed));
+    }
+
+    private static RandomGenerator random(Long seed) {
+        return seed != null ? new SplittableRandom(seed) : ThreadLocalRandom.current();
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.LlmTipProvider;
+import io.github.rawadhossain.GikiZero.data.TipContent;
+import io.github.rawadhossain.GikiZero.data.TipProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asks the optional {@link LlmTipProvider} for richer tips in the background.
+ * <p>
+ * At most {@code tips.llm.max-concurrent} calls run at once; a profile that
+ * comes in while all slots are taken, or while its own call is still
+ * running, is not queued but keeps its rule-based tips. A call is
+ * interrupted after {@code tips.llm.timeout-ms}. Timeouts and errors count
+ * towards a {@link CircuitBreaker}, which stops all calls for
+ * {@code tips.llm.open-ms} after {@code tips.llm.failure-threshold}
+ * failures in a row. Outcomes are counted in {@code gikizero.tips.llm}.
+ */
+@Service
+public class TipEnricher {
+    private static final Logger log = LoggerFactory.getLogger(TipEnricher.class);
+
+    private final LlmTipProvider provider;
+    private final long timeoutMs;
+    private final Semaphore permits;
+    private final CircuitBreaker breaker;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TipEnricher(ObjectProvider<LlmTipProvider> provider, MeterRegistry meterRegistry,
+                       @Value("${tips.llm.timeout-ms:10000}") long timeoutMs,
+                       @Value("${tips.llm.max-concurrent:4}") int maxConcurrent,
+                       @Value("${tips.llm.failure-threshold:5}") int failureThreshold,
+                       @Value("${tips.llm.open-ms:60000}") long openMs) {
+        this(provider.getIfAvailable(), meterRegistry, timeoutMs, maxConcurrent,
+                new CircuitBreaker(failureThreshold, openMs));
+    }
+
+    TipEnricher(LlmTipProvider provider, MeterRegistry meterRegistry, long timeoutMs, int maxConcurrent,
+                CircuitBreaker breaker) {
+        this.provider = provider;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMs = timeoutMs;
+        this.permits = new Semaphore(maxConcurrent);
+        this.breaker = breaker;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // never more tasks than permits, so the queue stays short
+        this.executor = Executors.newFixedThreadPool(maxConcurrent, r -> {
+            Thread thread = new Thread(r, "tip-llm-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        new ExecutorServiceMetrics(executor, "tips.llm", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return provider != null;
+    }
+
+    // Provider version for the tip cache key, empty without a provider
+    public String version() {
+        return provider != null ? provider.version() : "";
+    }
+
+    /**
+     * Starts a provider call for {@code profile}, or returns empty if there
+     * is no provider, the breaker is open, all slots are busy or the same
+     * {@code fingerprint} is already being enriched. The future completes
+     * with the provider's tips, or exceptionally on error or timeout, on a
+     * provider thread; slow follow-up work belongs on the caller's own
+     * executor.
+     */
+    public Optional<CompletableFuture<List<TipContent>>> enrich(String fingerprint, TipProfile profile,
+                                                                List<TipContent> ruleTips) {
+        if (provider == null) {
+            return Optional.empty();
+        }
+        if (!inFlight.add(fingerprint)) {
+            return Optional.empty();
+        }
+        if (!permits.tryAcquire()) {
+            inFlight.remove(fingerprint);
+            count("rejected");
+            return Optional.empty();
+        }
+        if (!breaker.tryAcquire()) {
+            permits.release();
+            inFlight.remove(fingerprint);
+            count("open");
+            return Optional.empty();
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        // the task's finally and a timeout before the task starts may both get here
+        Runnable releasePermit = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        // claimed by whichever comes first: the task starting or the timeout giving up on it
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<List<TipContent>> result = new CompletableFuture<>();
+        Future<?> call;
+        try {
+            call = executor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                List<TipContent> tips = null;
+                Throwable failure = null;
+                try {
+                    tips = provider.suggest(profile, ruleTips);
+                } catch (Throwable e) {
+                    failure = e;
+                } finally {
+                    // held until the provider returns, even past the timeout, and released before anyone waiting is told
+                    releasePermit.run();
+                }
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(tips != null ? List.copyOf(tips) : List.of());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releasePermit.run();
+            inFlight.remove(fingerprint);
+            count("rejected");
+            return Optional.empty();
+        }
+
+        return Optional.of(result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((tips, error) -> {
+            inFlight.remove(fingerprint);
+            if (error == null) {
+                breaker.onSuccess();
+                count("success");
+            } else if (error instanceof TimeoutException) {
+                call.cancel(true);
+                // a task cancelled while still queued never reaches its finally
+                if (started.compareAndSet(false, true)) {
+                    releasePermit.run();
+                }
+                breaker.onFailure();
+                count("timeout");
+                log.warn("Tip provider {} timed out after {} ms", provider.version(), timeoutMs);
+            } else {
+                breaker.onFailure();
+                count("failure");
+                log.warn("Tip provider {} failed", provider.version(), error);
+            }
+        }));
+    }
+
+    CircuitBreaker.State getBreakerState() {
+        return breaker.getState();
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("gikizero.tips.llm", "outcome", outcome).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
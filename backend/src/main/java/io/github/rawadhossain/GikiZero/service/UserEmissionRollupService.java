@@ -0,0 +1,222 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.BatchScore;
+import io.github.rawadhossain.GikiZero.data.EmissionCategory;
+import io.github.rawadhossain.GikiZero.model.Submission;
+import io.github.rawadhossain.GikiZero.model.UserEmissionRollup;
+import io.github.rawadhossain.GikiZero.repository.UserEmissionRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Keeps {@link UserEmissionRollup} in step with the submissions table.
+ * <p>
+ * Inserts are merged with a single {@code INSERT ... ON CONFLICT DO UPDATE},
+ * so concurrent submissions for the same user never lose an increment.
+ * Deletes subtract the row and only rescan the user's history when the
+ * deleted row was the min, max or latest score.
+ */
+@Service
+public class UserEmissionRollupService {
+
+    private static final String UPSERT;
+    private static final String SUBTRACT;
+    private static final String REBUILD;
+    private static final String RECOMPUTE_EXTREMES = """
+            UPDATE user_emission_rollup r SET
+                min_score = (SELECT min(total_emission_score) FROM submissions WHERE user_id = r.user_id),
+                max_score = (SELECT max(total_emission_score) FROM submissions WHERE user_id = r.user_id),
+                (last_score, last_submitted_at) = (SELECT total_emission_score, created_at FROM submissions
+                    WHERE user_id = r.user_id ORDER BY created_at DESC, id DESC LIMIT 1)
+            WHERE r.user_id = ?
+            """;
+
+    static {
+        StringBuilder columns = new StringBuilder(
+                "user_id, submission_count, score_sum, min_score, max_score, last_score, last_submitted_at");
+        StringBuilder values = new StringBuilder("?, ?, ?, ?, ?, ?, ?");
+        StringBuilder merge = new StringBuilder("""
+                submission_count = r.submission_count + excluded.submission_count,
+                score_sum = r.score_sum + excluded.score_sum,
+                min_score = least(r.min_score, excluded.min_score),
+                max_score = greatest(r.max_score, excluded.max_score),
+                last_score = CASE WHEN r.last_submitted_at IS NULL OR excluded.last_submitted_at >= r.last_submitted_at
+                    THEN excluded.last_score ELSE r.last_score END,
+                last_submitted_at = greatest(r.last_submitted_at, excluded.last_submitted_at)""");
+        StringBuilder rebuildColumns = new StringBuilder("""
+                user_id, count(*), sum(total_emission_score), min(total_emission_score), max(total_emission_score),
+                (array_agg(total_emission_score ORDER BY created_at DESC, id DESC))[1], max(created_at)""");
+        StringBuilder rebuildSet = new StringBuilder("""
+                submission_count = excluded.submission_count, score_sum = excluded.score_sum,
+                min_score = excluded.min_score, max_score = excluded.max_score,
+                last_score = excluded.last_score, last_submitted_at = excluded.last_submitted_at""");
+        StringBuilder subtract = new StringBuilder(
+                "UPDATE user_emission_rollup SET submission_count = submission_count - 1, score_sum = score_sum - ?");
+        for (EmissionCategory category : EmissionCategory.STORED) {
+            String column = sumColumn(category);
+            columns.append(", ").append(column);
+            values.append(", ?");
+            merge.append(",\n").append(column).append(" = r.").append(column).append(" + excluded.").append(column);
+            subtract.append(", ").append(column).append(" = ").append(column).append(" - ?");
+            rebuildColumns.append(", sum(").append(category.scoreColumn()).append(")");
+            rebuildSet.append(", ").append(column).append(" = excluded.").append(column);
+        }
+        UPSERT = "INSERT INTO user_emission_rollup AS r (" + columns + ", updated_at) VALUES (" + values + ", ?)\n"
+                + "ON CONFLICT (user_id) DO UPDATE SET\n" + merge + ",\nupdated_at = excluded.updated_at";
+        SUBTRACT = subtract + ", updated_at = ? WHERE user_id = ?";
+        REBUILD = "INSERT INTO user_emission_rollup (" + columns + ", updated_at)\n"
+                + "SELECT " + rebuildColumns + ", now() FROM submissions GROUP BY user_id\n"
+                + "ON CONFLICT (user_id) DO UPDATE SET " + rebuildSet + ", updated_at = excluded.updated_at";
+    }
+
+    private final UserEmissionRollupRepository rollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserEmissionRollupService(UserEmissionRollupRepository rollupRepository, JdbcTemplate jdbcTemplate) {
+        this.rollupRepository = rollupRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<UserEmissionRollup> getRollup(String userId) {
+        return rollupRepository.findById(userId);
+    }
+
+    @Transactional
+    public void recordSubmission(Submission submission) {
+        Delta delta = new Delta();
+        double[] categories = new double[EmissionCategory.STORED.length];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = score(submission, EmissionCategory.STORED[i]);
+        }
+        delta.add(submission.getTotalEmissionScore(), submission.getCreatedAt(), categories);
+        jdbcTemplate.update(UPSERT, delta.parameters(submission.getUser().getId()));
+    }
+
+    /**
+     * Merges a scored batch that was inserted with {@code createdAt}, one upsert per distinct user.
+     */
+    @Transactional
+    public void recordBatch(String[] userIds, BatchScore scores, LocalDateTime createdAt) {
+        // Sorted so concurrent batches lock rollup rows in the same order
+        Map<String, Delta> deltas = new TreeMap<>();
+        double[] categories = new double[EmissionCategory.STORED.length];
+        for (int row = 0; row < userIds.length; row++) {
+            for (int i = 0; i < categories.length; i++) {
+                categories[i] = scores.get(EmissionCategory.STORED[i], row);
+            }
+            deltas.computeIfAbsent(userIds[row], id -> new Delta()).add(scores.getTotals()[row], createdAt, categories);
+        }
+        List<Object[]> parameters = new ArrayList<>(deltas.size());
+        deltas.forEach((userId, delta) -> parameters.add(delta.parameters(userId)));
+        jdbcTemplate.batchUpdate(UPSERT, parameters);
+    }
+
+    // Call after the submission row has been deleted in the same transaction
+    @Transactional
+    public void removeSubmission(Submission submission) {
+        String userId = submission.getUser().getId();
+        UserEmissionRollup rollup = rollupRepository.findById(userId).orElse(null);
+        if (rollup == null) {
+            return;
+        }
+
+        Object[] parameters = new Object[EmissionCategory.STORED.length + 3];
+        parameters[0] = submission.getTotalEmissionScore();
+        for (int i = 0; i < EmissionCategory.STORED.length; i++) {
+            parameters[i + 1] = score(submission, EmissionCategory.STORED[i]);
+        }
+        parameters[parameters.length - 2] = Timestamp.valueOf(LocalDateTime.now());
+        parameters[parameters.length - 1] = userId;
+        jdbcTemplate.update(SUBTRACT, parameters);
+
+        double total = submission.getTotalEmissionScore();
+        boolean extreme = (rollup.getMinScore() != null && total <= rollup.getMinScore())
+                || (rollup.getMaxScore() != null && total >= rollup.getMaxScore())
+                || (rollup.getLastSubmittedAt() != null && !submission.getCreatedAt().isBefore(rollup.getLastSubmittedAt()));
+        if (extreme) {
+            jdbcTemplate.update(RECOMPUTE_EXTREMES, userId);
+        }
+    }
+
+    /**
+     * Recomputes every rollup from the submissions table, used after bulk
+     * jobs that rewrite scores in place.
+     */
+    @Transactional
+    public void rebuildAll() {
+        jdbcTemplate.update(REBUILD);
+    }
+
+    static String sumColumn(EmissionCategory category) {
+        return category.scoreColumn().replace("_score", "_sum");
+    }
+
+    static double score(Submission submission, EmissionCategory category) {
+        return switch (category) {
+            case TRANSPORTATION -> submission.getTransportationScore();
+            case ENERGY -> submission.getEnergyScore();
+            case WATER -> submission.getWaterScore();
+            case DIET -> submission.getDietScore();
+            case FOOD_WASTE -> submission.getFoodWasteScore();
+            case SHOPPING -> submission.getShoppingScore();
+            case WASTE -> submission.getWasteScore();
+            case ELECTRONICS -> submission.getElectronicsScore();
+            case TRAVEL -> submission.getTravelScore();
+            case APPLIANCE -> submission.getApplianceScore();
+            default -> 0;
+        };
+    }
+
+    /**
+     * Aggregate of one or more new submissions for a single user, bound as UPSERT parameters.
+     */
+    private static final class Delta {
+        long count;
+        double sum;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double last;
+        LocalDateTime lastAt;
+        final double[] categorySums = new double[EmissionCategory.STORED.length];
+
+        void add(double total, LocalDateTime createdAt, double[] categories) {
+            count++;
+            sum += total;
+            min = Math.min(min, total);
+            max = Math.max(max, total);
+            if (lastAt == null || !createdAt.isBefore(lastAt)) {
+                last = total;
+                lastAt = createdAt;
+            }
+            for (int i = 0; i < categories.length; i++) {
+                categorySums[i] += categories[i];
+            }
+        }
+
+        Object[] parameters(String userId) {
+            Object[] parameters = new Object[8 + categorySums.length];
+            int p = 0;
+            parameters[p++] = userId;
+            parameters[p++] = count;
+            parameters[p++] = sum;
+            parameters[p++] = min;
+            parameters[p++] = max;
+            parameters[p++] = last;
+            parameters[p++] = Timestamp.valueOf(lastAt);
+            for (double categorySum : categorySums) {
+                parameters[p++] = categorySum;
+            }
+            parameters[p] = Timestamp.valueOf(LocalDateTime.now());
+            return parameters;
+        }
+    }
+}
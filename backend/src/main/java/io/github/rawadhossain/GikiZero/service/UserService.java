@@ -1,7 +1,12 @@
 package io.github.rawadhossain.GikiZero.service;
 
+import io.github.rawadhossain.GikiZero.data.CursorPage;
+import io.github.rawadhossain.GikiZero.data.EarnedBadge;
 import io.github.rawadhossain.GikiZero.model.User;
+import io.github.rawadhossain.GikiZero.repository.UserBadgeRepository;
+import io.github.rawadhossain.GikiZero.repository.UserProfile;
 import io.github.rawadhossain.GikiZero.repository.UserRepository;
+import io.github.rawadhossain.GikiZero.repository.UserSummary;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,17 +15,28 @@ import java.util.Optional;
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final UserBadgeRepository userBadgeRepository;
+    private final SessionService sessionService;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserBadgeRepository userBadgeRepository,
+                       SessionService sessionService) {
         this.userRepository = userRepository;
+        this.userBadgeRepository = userBadgeRepository;
+        this.sessionService = sessionService;
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<?> getAllUsers(String cursor, Integer size, String view) {
+        return CursorPage.of(userRepository.findAllByOrderByCreatedAtDescIdDesc(
+                CursorPage.position(cursor), CursorPage.limit(size), projection(view)));
     }
 
-    public Optional<User> getUserById(String id) {
-        return userRepository.findById(id);
+    public Optional<UserProfile> getUserById(String id) {
+        return userRepository.findById(id, UserProfile.class);
+    }
+
+    // One query: the badge rows come with the UserBadge.badge entity graph
+    public List<EarnedBadge> getBadges(String userId) {
+        return userBadgeRepository.findByUserId(userId).stream().map(EarnedBadge::new).toList();
     }
 
     public User createUser(User user) {
@@ -39,6 +55,16 @@ public class UserService {
     }
 
     public void deleteUser(String id) {
+        // Evicts the cached sessions too, the cascade alone would leave them valid in memory
+        sessionService.logoutUser(id);
         userRepository.deleteById(id);
     }
+
+    private static Class<?> projection(String view) {
+        return switch (view) {
+            case "full" -> UserProfile.class;
+            case "summary" -> UserSummary.class;
+            default -> throw new IllegalArgumentException("Unknown view: " + view);
+        };
+    }
 }
@@ -0,0 +1,3 @@
+-- Let the expired row reaper find each batch without scanning the table
+CREATE INDEX idx_session_expires ON session (expires);
+CREATE INDEX idx_verification_token_expires ON verification_token (expires);
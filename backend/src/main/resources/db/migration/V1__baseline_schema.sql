@@ -0,0 +1,128 @@
+-- Schema as previously generated by ddl-auto=update. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE users (
+    id                   varchar(255) PRIMARY KEY,
+    name                 varchar(255),
+    email                varchar(255) UNIQUE,
+    email_verified       timestamp(6),
+    image                varchar(255),
+    password             varchar(255),
+    age                  varchar(255),
+    location             varchar(255),
+    onboarding_completed boolean      NOT NULL,
+    current_streak       integer      NOT NULL,
+    longest_streak       integer      NOT NULL,
+    total_points         integer      NOT NULL,
+    created_at           timestamp(6),
+    updated_at           timestamp(6)
+);
+
+CREATE TABLE account (
+    id                  varchar(255) PRIMARY KEY,
+    type                varchar(255),
+    provider            varchar(255),
+    provider_account_id varchar(255),
+    refresh_token       oid,
+    access_token        oid,
+    expires_at          integer,
+    token_type          varchar(255),
+    scope               varchar(255),
+    id_token            oid,
+    session_state       varchar(255),
+    user_id             varchar(255) NOT NULL REFERENCES users (id),
+    UNIQUE (provider, provider_account_id)
+);
+
+CREATE TABLE session (
+    id            varchar(255) PRIMARY KEY,
+    session_token varchar(255) UNIQUE,
+    expires       timestamp(6),
+    user_id       varchar(255) NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE verification_token (
+    id         varchar(255) PRIMARY KEY,
+    identifier varchar(255),
+    token      varchar(255) UNIQUE,
+    expires    timestamp(6),
+    UNIQUE (identifier, token)
+);
+
+CREATE TABLE submissions (
+    id                       varchar(255) PRIMARY KEY,
+    user_id                  varchar(255) NOT NULL REFERENCES users (id),
+    transportation_type      varchar(255),
+    transportation_frequency varchar(255),
+    transportation_distance  varchar(255),
+    transportation_score     float(53)    NOT NULL,
+    electricity_units        varchar(255),
+    renewable_energy         boolean      NOT NULL,
+    energy_score             float(53)    NOT NULL,
+    water_usage              varchar(255),
+    water_score              float(53)    NOT NULL,
+    diet_type                varchar(255),
+    diet_score               float(53)    NOT NULL,
+    food_waste_level         varchar(255),
+    food_waste_score         float(53)    NOT NULL,
+    clothes_per_month        varchar(255),
+    shopping_score           float(53)    NOT NULL,
+    recycling_habits         varchar(255),
+    waste_score              float(53)    NOT NULL,
+    streaming_habits         varchar(255),
+    electronics_score        float(53)    NOT NULL,
+    air_travel_freq          varchar(255),
+    travel_score             float(53)    NOT NULL,
+    appliance_usage          varchar(255),
+    appliance_score          float(53)    NOT NULL,
+    total_emission_score     float(53)    NOT NULL,
+    impact_category          varchar(255),
+    created_at               timestamp(6),
+    updated_at               timestamp(6)
+);
+
+CREATE TABLE badge (
+    id          varchar(255) PRIMARY KEY,
+    name        varchar(255) UNIQUE,
+    description varchar(255),
+    icon        varchar(255),
+    category    varchar(255),
+    requirement varchar(255)
+);
+
+CREATE TABLE user_badge (
+    id        varchar(255) PRIMARY KEY,
+    earned_at timestamp(6),
+    user_id   varchar(255) NOT NULL REFERENCES users (id),
+    badge_id  varchar(255) NOT NULL REFERENCES badge (id),
+    UNIQUE (user_id, badge_id)
+);
+
+CREATE TABLE ai_tip (
+    id          varchar(255) PRIMARY KEY,
+    title       varchar(255),
+    description oid,
+    category    varchar(255),
+    impact      varchar(255),
+    reasoning   oid,
+    created_at  timestamp(6),
+    user_id     varchar(255) NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE question (
+    id        varchar(255) PRIMARY KEY,
+    category  varchar(255),
+    question  varchar(255),
+    type      varchar(255),
+    options   oid,
+    weight    float(53) NOT NULL,
+    is_active boolean   NOT NULL
+);
+
+CREATE TABLE reports (
+    id         varchar(255) PRIMARY KEY,
+    type       varchar(255),
+    filename   varchar(255),
+    created_at timestamp(6),
+    user_id    varchar(255) NOT NULL REFERENCES users (id)
+);
@@ -0,0 +1,9 @@
+-- One row per bulk rescore job, committed with every rescored chunk so a restarted job resumes after the last one
+CREATE TABLE rescore_checkpoints (
+    job_id             varchar(255) PRIMARY KEY,
+    last_submission_id varchar(255),
+    rows_done          bigint NOT NULL,
+    started_at         timestamp(6),
+    updated_at         timestamp(6),
+    completed_at       timestamp(6)
+);
@@ -0,0 +1,34 @@
+-- Running per-user totals behind the dashboard stats, maintained on every submission write
+CREATE TABLE user_emission_rollup (
+    user_id            varchar(255) PRIMARY KEY,
+    submission_count   bigint    NOT NULL,
+    score_sum          float(53) NOT NULL,
+    min_score          float(53),
+    max_score          float(53),
+    last_score         float(53),
+    last_submitted_at  timestamp(6),
+    transportation_sum float(53) NOT NULL,
+    energy_sum         float(53) NOT NULL,
+    water_sum          float(53) NOT NULL,
+    diet_sum           float(53) NOT NULL,
+    food_waste_sum     float(53) NOT NULL,
+    shopping_sum       float(53) NOT NULL,
+    waste_sum          float(53) NOT NULL,
+    electronics_sum    float(53) NOT NULL,
+    travel_sum         float(53) NOT NULL,
+    appliance_sum      float(53) NOT NULL,
+    updated_at         timestamp(6)
+);
+
+-- Rollups of the submissions made before this table existed, as UserEmissionRollupService.rebuildAll computes them
+INSERT INTO user_emission_rollup (user_id, submission_count, score_sum, min_score, max_score, last_score,
+                                  last_submitted_at, transportation_sum, energy_sum, water_sum, diet_sum,
+                                  food_waste_sum, shopping_sum, waste_sum, electronics_sum, travel_sum,
+                                  appliance_sum, updated_at)
+SELECT user_id, count(*), sum(total_emission_score), min(total_emission_score), max(total_emission_score),
+       (array_agg(total_emission_score ORDER BY created_at DESC, id DESC))[1], max(created_at),
+       sum(transportation_score), sum(energy_score), sum(water_score), sum(diet_score), sum(food_waste_score),
+       sum(shopping_score), sum(waste_score), sum(electronics_score), sum(travel_score), sum(appliance_score),
+       now()
+FROM submissions
+GROUP BY user_id;
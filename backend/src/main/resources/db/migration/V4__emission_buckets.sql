@@ -0,0 +1,27 @@
+-- Day, ISO week and month aggregates per user and category ('total' or a stored category) behind the trend series.
+-- A series is a range read of the primary key, which leads with (user_id, granularity, bucket_start).
+CREATE TABLE emission_buckets (
+    user_id          varchar(255) NOT NULL,
+    granularity      varchar(255) NOT NULL,
+    bucket_start     date         NOT NULL,
+    category         varchar(255) NOT NULL,
+    submission_count bigint       NOT NULL,
+    score_sum        float(53)    NOT NULL,
+    min_score        float(53),
+    max_score        float(53),
+    PRIMARY KEY (user_id, granularity, bucket_start, category)
+);
+
+-- Buckets of the submissions made before this table existed, as EmissionBucketService.rebuildAll computes them
+INSERT INTO emission_buckets (user_id, granularity, bucket_start, category,
+    submission_count, score_sum, min_score, max_score)
+SELECT s.user_id, g.granularity, date_trunc(g.unit, s.created_at)::date, c.category,
+       count(*), sum(c.score), min(c.score), max(c.score)
+FROM submissions s
+CROSS JOIN (VALUES ('DAY', 'day'), ('WEEK', 'week'), ('MONTH', 'month')) AS g(granularity, unit)
+CROSS JOIN LATERAL (VALUES ('total', s.total_emission_score), ('transportation', s.transportation_score),
+    ('energy', s.energy_score), ('water', s.water_score), ('diet', s.diet_score),
+    ('foodWaste', s.food_waste_score), ('shopping', s.shopping_score), ('waste', s.waste_score),
+    ('electronics', s.electronics_score), ('travel', s.travel_score), ('appliance', s.appliance_score))
+    AS c(category, score)
+GROUP BY 1, 2, 3, 4;
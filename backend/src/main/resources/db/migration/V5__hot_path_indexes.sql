@@ -0,0 +1,12 @@
+-- History, dashboard and keyset pagination reads: WHERE user_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_submissions_user_created ON submissions (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_submissions_created ON submissions (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_reports_user_created ON reports (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_reports_created ON reports (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_ai_tip_user_created ON ai_tip (user_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_users_created ON users (created_at DESC, id DESC);
+
+-- user_badge lookups by user_id are served by the leading column of its (user_id, badge_id) unique index
@@ -0,0 +1,19 @@
+-- Single-row counter bumped by every statement that changes the question bank.
+-- QuestionCatalog polls it and reloads only when it moves.
+CREATE TABLE question_bank_version (
+    id      integer PRIMARY KEY CHECK (id = 1),
+    version bigint  NOT NULL
+);
+
+INSERT INTO question_bank_version (id, version) VALUES (1, 1);
+
+CREATE FUNCTION bump_question_bank_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE question_bank_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER question_bank_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON question
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_question_bank_version();
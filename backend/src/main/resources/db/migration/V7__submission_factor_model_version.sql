@@ -0,0 +1,2 @@
+-- Rows scored before factor models were versioned keep a NULL version
+ALTER TABLE submissions ADD COLUMN factor_model_version varchar(255);
@@ -0,0 +1,9 @@
+-- Reports become asynchronous jobs; rows from before were generated synchronously
+ALTER TABLE reports
+    ADD COLUMN status       varchar(255),
+    ADD COLUMN started_at   timestamp(6),
+    ADD COLUMN completed_at timestamp(6),
+    ADD COLUMN size_bytes   bigint,
+    ADD COLUMN error        varchar(1000);
+
+UPDATE reports SET status = 'COMPLETED', completed_at = created_at;
@@ -0,0 +1,2 @@
+-- Sessions are looked up by user to sign a user out everywhere
+CREATE INDEX idx_session_user ON session (user_id);
@@ -0,0 +1,55 @@
+package io.github.rawadhossain.GikiZero;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Base of the tests that run the whole application against PostgreSQL.
+ * Every subclass gets the same configuration, so Spring builds the context
+ * once and caches it for all of them, and they all share one embedded
+ * database that lives until the JVM exits. Each test seeds the rows it
+ * needs; the background polls are pushed out of the way of test data.
+ * {@link StatementRecorder} shows what SQL a call sends to the database.
+ */
+@SpringBootTest(properties = {
+		"questions.catalog.poll-interval-ms=3600000",
+		"emission.factors.poll-interval-ms=3600000",
+		"reaper.initial-delay-ms=3600000"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@Import(StatementRecorder.class)
+public abstract class AbstractDatabaseTests {
+
+	// Flyway and schema validation need a real PostgreSQL to start against
+	private static final EmbeddedPostgres POSTGRES = start();
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.password", () -> "");
+	}
+
+	private static EmbeddedPostgres start() {
+		try {
+			EmbeddedPostgres postgres = EmbeddedPostgres.start();
+			// cached contexts keep using the database after the last test class, so it is closed with the JVM
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try {
+					postgres.close();
+				} catch (IOException ignored) {
+				}
+			}));
+			return postgres;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
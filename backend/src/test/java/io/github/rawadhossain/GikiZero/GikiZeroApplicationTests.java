@@ -1,10 +1,8 @@
 package io.github.rawadhossain.GikiZero;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class GikiZeroApplicationTests {
+class GikiZeroApplicationTests extends AbstractDatabaseTests {
 
 	@Test
 	void contextLoads() {
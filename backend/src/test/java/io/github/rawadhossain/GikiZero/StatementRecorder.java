@@ -0,0 +1,128 @@
+package io.github.rawadhossain.GikiZero;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Wraps the application's {@link DataSource} so a test can see the exact
+ * statements, and their bound parameters, that repositories and services
+ * prepare on the calling thread. Nothing is recorded outside of
+ * {@link #record}.
+ */
+public class StatementRecorder implements BeanPostProcessor {
+
+	private static final ThreadLocal<List<Statement>> RECORDING = new ThreadLocal<>();
+
+	/**
+	 * A prepared statement: its SQL and the {@code setXxx(index, ...)} calls
+	 * made on it, which {@link #explain} replays.
+	 */
+	public record Statement(String sql, List<Binding> bindings) {
+
+		/**
+		 * Runs {@code EXPLAIN} on this statement with the same parameters
+		 * and returns the plan, one line per node.
+		 */
+		public String explain(JdbcTemplate jdbc) {
+			List<String> lines = jdbc.query(connection -> {
+				PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql);
+				for (Binding binding : bindings) {
+					binding.replay(explain);
+				}
+				return explain;
+			}, (rs, row) -> rs.getString(1));
+			return String.join("\n", lines);
+		}
+	}
+
+	record Binding(Method setter, Object[] args) {
+
+		void replay(PreparedStatement statement) {
+			try {
+				setter.invoke(statement, args);
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IllegalStateException("Could not bind " + setter.getName(), e);
+			}
+		}
+	}
+
+	/**
+	 * Runs {@code action} and returns every statement it prepared on this
+	 * thread, in order.
+	 */
+	public static List<Statement> record(Callable<?> action) throws Exception {
+		List<Statement> statements = new ArrayList<>();
+		RECORDING.set(statements);
+		try {
+			action.call();
+		} finally {
+			RECORDING.remove();
+		}
+		return statements;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource) {
+			// every interface of the pool, so it is still closed with the context
+			return proxy(ClassUtils.getAllInterfaces(dataSource), dataSource, (method, args, result) ->
+					result instanceof Connection connection
+							? proxy(new Class<?>[] { Connection.class }, connection, StatementRecorder::prepared)
+							: result);
+		}
+		return bean;
+	}
+
+	// Connection.prepareStatement(sql, ...) while recording returns a statement that notes its bindings
+	private static Object prepared(Method method, Object[] args, Object result) {
+		List<Statement> statements = RECORDING.get();
+		if (statements == null || !(result instanceof PreparedStatement statement)
+				|| !method.getName().equals("prepareStatement")) {
+			return result;
+		}
+		List<Binding> bindings = new ArrayList<>();
+		statements.add(new Statement((String) args[0], bindings));
+		return proxy(new Class<?>[] { PreparedStatement.class }, statement, (setter, setterArgs, ignored) -> {
+			if (setter.getName().startsWith("set") && setterArgs != null && setterArgs.length > 1
+					&& setterArgs[0] instanceof Integer) {
+				bindings.add(new Binding(setter, setterArgs));
+			}
+			return ignored;
+		});
+	}
+
+	private interface AfterCall {
+		Object apply(Method method, Object[] args, Object result) throws Exception;
+	}
+
+	private static Object proxy(Class<?>[] types, Object target, AfterCall after) {
+		InvocationHandler handler = (proxy, method, args) -> {
+			if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+				return proxy == args[0];
+			}
+			if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+				return System.identityHashCode(proxy);
+			}
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+			return after.apply(method, args, result);
+		};
+		return Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), types, handler);
+	}
+}
@@ -0,0 +1,176 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.data.ChatMessage;
+import io.github.rawadhossain.GikiZero.data.ChatModel;
+import io.github.rawadhossain.GikiZero.data.EchoChatModel;
+import io.github.rawadhossain.GikiZero.data.ResolvedSession;
+import io.github.rawadhossain.GikiZero.service.ChatService;
+import io.github.rawadhossain.GikiZero.service.SessionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Streams replies from local models through {@code /api/chat}: the echo
+ * model, and one that holds a reply open to check that tokens go out before
+ * it ends and that a user can't open more streams than allowed.
+ */
+class ChatControllerTests {
+
+	private final SessionService sessionService = mock(SessionService.class);
+
+	@BeforeEach
+	void sessions() {
+		when(sessionService.resolve(any())).thenReturn(Optional.empty());
+		for (String user : List.of("u1", "u2")) {
+			when(sessionService.resolve("token-" + user))
+					.thenReturn(Optional.of(new ResolvedSession("s-" + user, user, LocalDateTime.now().plusHours(1))));
+		}
+	}
+
+	@Test
+	void streamsTheReplyAsTokenEvents() throws Exception {
+		RecordingModel model = new RecordingModel();
+		MockMvc mockMvc = mockMvc(model, 2);
+
+		MvcResult result = mockMvc.perform(chat("u1", "How do I eat greener?"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		result.getAsyncResult(5000);
+
+		String body = result.getResponse().getContentAsString();
+		assertThat(body).contains("event:token\ndata:{\"text\":\"You \"}", "data:{\"text\":\"greener?\"}", "event:done");
+		assertThat(model.prompts).singleElement().satisfies(messages -> {
+			assertThat(messages.get(0)).isSameAs(ChatMessage.INITIAL_MESSAGE);
+			assertThat(messages).extracting(ChatMessage::getRole).containsExactly("system", "user");
+		});
+	}
+
+	@Test
+	void firstTokenIsSentBeforeTheReplyEnds() throws Exception {
+		CountDownLatch finish = new CountDownLatch(1);
+		MockMvc mockMvc = mockMvc(new HeldModel(List.of("Hello"), finish, List.of(" world")), 2);
+
+		MvcResult result = mockMvc.perform(chat("u1", "Hi")).andExpect(request().asyncStarted()).andReturn();
+
+		assertThat(awaitContent(result, "\"text\":\"Hello\"")).isTrue();
+		assertThat(result.getResponse().getContentAsString()).doesNotContain("event:done");
+		finish.countDown();
+		result.getAsyncResult(5000);
+		assertThat(result.getResponse().getContentAsString()).contains("\"text\":\" world\"", "event:done");
+	}
+
+	@Test
+	void limitsConcurrentRepliesPerUser() throws Exception {
+		CountDownLatch finish = new CountDownLatch(1);
+		MockMvc mockMvc = mockMvc(new HeldModel(List.of("thinking"), finish, List.of()), 1);
+
+		MvcResult first = mockMvc.perform(chat("u1", "One")).andExpect(request().asyncStarted()).andReturn();
+		mockMvc.perform(chat("u1", "Two")).andExpect(status().isTooManyRequests());
+		MvcResult other = mockMvc.perform(chat("u2", "Three")).andExpect(request().asyncStarted()).andReturn();
+
+		finish.countDown();
+		first.getAsyncResult(5000);
+		other.getAsyncResult(5000);
+		mockMvc.perform(chat("u1", "Four")).andExpect(request().asyncStarted());
+	}
+
+	@Test
+	void rejectsUnknownSessionsAndBadConversations() throws Exception {
+		MockMvc mockMvc = mockMvc(new EchoChatModel(0), 2);
+
+		mockMvc.perform(chat("nobody", "Hi")).andExpect(status().isUnauthorized());
+		mockMvc.perform(post("/api/chat")
+						.header(HttpHeaders.AUTHORIZATION, "Bearer token-u1")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"messages\": [{\"role\": \"assistant\", \"content\": \"Hello\"}]}"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private MockMvc mockMvc(ChatModel model, int maxPerUser) {
+		ChatService chatService = new ChatService(model, new SimpleMeterRegistry(), maxPerUser, 10000, 40, 4000);
+		return MockMvcBuilders.standaloneSetup(new ChatController(chatService, sessionService)).build();
+	}
+
+	private static MockHttpServletRequestBuilder chat(String user, String text) {
+		return post("/api/chat")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer token-" + user)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"messages\": [{\"role\": \"user\", \"content\": \"" + text + "\"}]}");
+	}
+
+	private static boolean awaitContent(MvcResult result, String expected) throws Exception {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			if (result.getResponse().getContentAsString().contains(expected)) {
+				return true;
+			}
+			Thread.sleep(10);
+		}
+		return false;
+	}
+
+	// The echo model, keeping every prompt it was sent
+	private static final class RecordingModel implements ChatModel {
+		final List<List<ChatMessage>> prompts = new CopyOnWriteArrayList<>();
+		private final EchoChatModel echo = new EchoChatModel(0);
+
+		@Override
+		public String name() {
+			return "recording";
+		}
+
+		@Override
+		public void stream(List<ChatMessage> messages, Consumer<String> onToken) throws InterruptedException {
+			prompts.add(messages);
+			echo.stream(messages, onToken);
+		}
+	}
+
+	// Sends the first tokens, holds the reply open until finish is counted down, then sends the rest
+	private static final class HeldModel implements ChatModel {
+		private final List<String> first;
+		private final CountDownLatch finish;
+		private final List<String> rest;
+
+		HeldModel(List<String> first, CountDownLatch finish, List<String> rest) {
+			this.first = first;
+			this.finish = finish;
+			this.rest = rest;
+		}
+
+		@Override
+		public String name() {
+			return "held";
+		}
+
+		@Override
+		public void stream(List<ChatMessage> messages, Consumer<String> onToken) throws InterruptedException {
+			first.forEach(onToken);
+			finish.await();
+			rest.forEach(onToken);
+		}
+	}
+}
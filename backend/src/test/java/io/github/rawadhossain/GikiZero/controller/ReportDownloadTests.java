@@ -0,0 +1,83 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.AbstractDatabaseTests;
+import io.github.rawadhossain.GikiZero.service.ReportCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A completed report is served from the file it was rendered to; once new
+ * data for its user drops that file, the report is stale and answers 410
+ * instead of being rendered again with different content. A streamed report
+ * counts the bytes it sends.
+ */
+class ReportDownloadTests extends AbstractDatabaseTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ReportCache reportCache;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void seed() throws Exception {
+		jdbc.execute("TRUNCATE users CASCADE");
+		jdbc.update("INSERT INTO users (id, onboarding_completed, current_streak, longest_streak, total_points)"
+				+ " VALUES ('u1', true, 0, 0, 0)");
+		String filename = reportCache.getOrRender("u1", "download-test", out -> out.write("%PDF-".getBytes()));
+		jdbc.update("INSERT INTO reports (id, type, filename, status, created_at, user_id)"
+				+ " VALUES ('r1', 'monthly', ?, 'COMPLETED', now(), 'u1')", filename);
+	}
+
+	@Test
+	void servesTheRenderedFile() throws Exception {
+		mockMvc.perform(get("/api/reports/r1/download")).andExpect(status().isOk());
+	}
+
+	@Test
+	void invalidatedReportIsGone() throws Exception {
+		reportCache.invalidateUser("u1");
+
+		mockMvc.perform(get("/api/reports/r1/download")).andExpect(status().isGone());
+		assertThat(jdbc.queryForObject("SELECT status FROM reports WHERE id = 'r1'", String.class)).isEqualTo("STALE");
+	}
+
+	@Test
+	void unfinishedReportIsAConflict() throws Exception {
+		jdbc.update("UPDATE reports SET status = 'RUNNING' WHERE id = 'r1'");
+
+		mockMvc.perform(get("/api/reports/r1/download")).andExpect(status().isConflict());
+	}
+
+	@Test
+	void streamedReportBytesAreCounted() throws Exception {
+		double before = meterRegistry.counter("gikizero.reports.bytes", "source", "stream").count();
+
+		MvcResult result = mockMvc.perform(get("/api/reports/user/u1/stream"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+		int sent = result.getResponse().getContentAsByteArray().length;
+		assertThat(sent).isPositive();
+		assertThat(meterRegistry.counter("gikizero.reports.bytes", "source", "stream").count() - before)
+				.isEqualTo(sent);
+	}
+}
@@ -0,0 +1,83 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.AbstractDatabaseTests;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Calls the user-facing read endpoints against an embedded PostgreSQL with
+ * several users, badges, submissions and reports, and fails if one of them
+ * issues more SQL statements than its budget. Lazy collections or
+ * associations reached during serialization show up here as one extra
+ * statement per row. The second-level cache is cleared first, so the
+ * budgets hold for a cold cache.
+ */
+class StatementCountTests extends AbstractDatabaseTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void seed() {
+		jdbc.execute("TRUNCATE users, badge CASCADE");
+		for (int u = 1; u <= 3; u++) {
+			jdbc.update("INSERT INTO users (id, name, email, password, onboarding_completed, current_streak,"
+					+ " longest_streak, total_points, created_at, updated_at)"
+					+ " VALUES (?, ?, ?, 'secret', true, 1, 2, 3, now() - (? * interval '1 day'), now())",
+					"u" + u, "User " + u, "u" + u + "@example.com", u);
+			for (int s = 1; s <= 4; s++) {
+				jdbc.update("INSERT INTO submissions (id, user_id, transportation_score, renewable_energy,"
+						+ " energy_score, water_score, diet_score, food_waste_score, shopping_score, waste_score,"
+						+ " electronics_score, travel_score, appliance_score, total_emission_score, created_at, updated_at)"
+						+ " VALUES (?, ?, 1, false, 1, 1, 1, 1, 1, 1, 1, 1, 1, 10, now() - (? * interval '1 hour'), now())",
+						"s" + u + "-" + s, "u" + u, s);
+			}
+			jdbc.update("INSERT INTO reports (id, type, status, created_at, user_id) VALUES (?, 'monthly', 'COMPLETED', now(), ?)",
+					"r" + u, "u" + u);
+		}
+		for (int b = 1; b <= 3; b++) {
+			jdbc.update("INSERT INTO badge (id, name) VALUES (?, ?)", "b" + b, "Badge " + b);
+			jdbc.update("INSERT INTO user_badge (id, earned_at, user_id, badge_id) VALUES (?, now(), 'u1', ?)",
+					"ub" + b, "b" + b);
+		}
+
+		SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictAllRegions();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@ParameterizedTest(name = "{0} uses at most {1} statement(s)")
+	@CsvSource({
+			"/api/users, 1",
+			"/api/users?view=summary, 1",
+			"/api/users/u1, 1",
+			"/api/users/u1/badges, 1",
+			"/api/submissions, 1",
+			"/api/submissions/user/u1, 1",
+			"/api/reports, 1",
+			"/api/reports/user/u1, 1"
+	})
+	void staysWithinStatementBudget(String uri, long budget) throws Exception {
+		mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		assertThat(statistics.getPrepareStatementCount()).as(uri).isLessThanOrEqualTo(budget);
+	}
+}
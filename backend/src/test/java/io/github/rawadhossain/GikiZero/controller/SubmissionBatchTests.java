@@ -0,0 +1,95 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.AbstractDatabaseTests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A batch import is checked as a whole before anything is written: too many
+ * rows or a row for an unknown user is a 400 and leaves no submissions
+ * behind. A row's total is made of the scores stored with it.
+ */
+class SubmissionBatchTests extends AbstractDatabaseTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Value("${submissions.batch.max-rows}")
+	private int maxRows;
+
+	@BeforeEach
+	void seed() {
+		jdbc.execute("TRUNCATE users CASCADE");
+		for (String id : new String[] { "u1", "u2" }) {
+			jdbc.update("INSERT INTO users (id, onboarding_completed, current_streak, longest_streak, total_points)"
+					+ " VALUES (?, true, 0, 0, 0)", id);
+		}
+	}
+
+	@Test
+	void importsRowsOfKnownUsers() throws Exception {
+		postBatch("{\"userId\": [\"u1\", \"u2\", \"u1\"], \"dietType\": [\"vegan\", \"omnivore\", \"vegetarian\"]}")
+				.andExpect(status().isOk());
+
+		assertThat(submissionCount()).isEqualTo(3);
+	}
+
+	@Test
+	void totalCountsOnlyStoredAnswers() throws Exception {
+		// homeSize and heatingType have no column on submissions, so they must not reach the total either
+		postBatch("{\"userId\": [\"u1\"], \"dietType\": [\"omnivore\"], \"homeSize\": [\"3-bedroom\"],"
+				+ " \"heatingType\": [\"oil\"]}")
+				.andExpect(status().isOk());
+
+		assertThat(jdbc.queryForMap("SELECT diet_score, total_emission_score FROM submissions"))
+				.satisfies(row -> assertThat(row.get("total_emission_score")).isEqualTo(row.get("diet_score")))
+				.satisfies(row -> assertThat((Double) row.get("diet_score")).isPositive());
+	}
+
+	@Test
+	void rejectsUnknownUsers() throws Exception {
+		postBatch("{\"userId\": [\"u1\", \"nobody\"], \"dietType\": [\"vegan\", \"vegan\"]}")
+				.andExpect(status().isBadRequest());
+
+		assertThat(submissionCount()).isZero();
+	}
+
+	@Test
+	void rejectsMissingUserIds() throws Exception {
+		postBatch("{\"userId\": [\"u1\", null], \"dietType\": [\"vegan\", \"vegan\"]}")
+				.andExpect(status().isBadRequest());
+
+		assertThat(submissionCount()).isZero();
+	}
+
+	@Test
+	void rejectsBatchesOverTheRowCap() throws Exception {
+		String userIds = String.join(", ", Collections.nCopies(maxRows + 1, "\"u1\""));
+		postBatch("{\"userId\": [" + userIds + "]}").andExpect(status().isBadRequest());
+
+		assertThat(submissionCount()).isZero();
+	}
+
+	private ResultActions postBatch(String json) throws Exception {
+		return mockMvc.perform(post("/api/submissions/batch").contentType(MediaType.APPLICATION_JSON).content(json));
+	}
+
+	private Long submissionCount() {
+		return jdbc.queryForObject("SELECT count(*) FROM submissions", Long.class);
+	}
+}
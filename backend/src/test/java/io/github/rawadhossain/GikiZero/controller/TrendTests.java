@@ -0,0 +1,55 @@
+package io.github.rawadhossain.GikiZero.controller;
+
+import io.github.rawadhossain.GikiZero.AbstractDatabaseTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A trend request may span at most {@code submissions.trend.max-buckets}
+ * buckets of its granularity; a longer range is a 400 rather than a scan of
+ * the user's whole history.
+ */
+class TrendTests extends AbstractDatabaseTests {
+
+	private static final LocalDate TO = LocalDate.of(2025, 3, 12);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Value("${submissions.trend.max-buckets}")
+	private int maxBuckets;
+
+	@Test
+	void servesRangesUpToTheCap() throws Exception {
+		getTrend("day", TO.minusDays(maxBuckets - 1)).andExpect(status().isOk());
+		getTrend("week", TO.minusWeeks(maxBuckets - 1)).andExpect(status().isOk());
+		getTrend("month", TO.minusMonths(maxBuckets - 1)).andExpect(status().isOk());
+	}
+
+	@Test
+	void rejectsRangesOverTheCap() throws Exception {
+		getTrend("day", TO.minusDays(maxBuckets)).andExpect(status().isBadRequest());
+		getTrend("week", TO.minusWeeks(maxBuckets)).andExpect(status().isBadRequest());
+		getTrend("month", TO.minusMonths(maxBuckets)).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void rejectsReversedRanges() throws Exception {
+		getTrend("day", TO.plusDays(1)).andExpect(status().isBadRequest());
+	}
+
+	private ResultActions getTrend(String granularity, LocalDate from) throws Exception {
+		return mockMvc.perform(get("/api/submissions/user/u1/trend")
+				.param("granularity", granularity)
+				.param("from", from.toString())
+				.param("to", TO.toString()));
+	}
+}
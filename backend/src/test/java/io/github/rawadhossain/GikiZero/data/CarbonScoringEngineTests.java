@@ -0,0 +1,199 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A batch row must score exactly like the same answers scored one at a time,
+ * every answer the survey offers has a factor, and a factor file is either
+ * read whole or rejected.
+ */
+class CarbonScoringEngineTests {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	// Known options, an alias, an unknown option (scored with the default) and unanswered
+	private static final String[] TRANSPORT = { "car-gasoline", "car-petrol", "bicycle", "teleport", null };
+	private static final String[] FREQUENCY = { "daily", "weekly", "never", "sometimes", null };
+	private static final String[] DISTANCE = { "short", "long", "very-long", "far", null };
+	private static final String[] LEVEL = { "very-low", "medium", "very-high", "unknown", null };
+	private static final String[] DIET = { "vegan", "omnivore", "meat-heavy", "unknown", null };
+	private static final String[] WASTE = { "none", "some", "high", "unknown", null };
+	private static final String[] CLOTHES = { "0", "3-5", "10+", "unknown", null };
+	private static final String[] RECYCLING = { "always", "sometimes", "never", "unknown", null };
+	private static final String[] USAGE = { "minimal", "high", "very-high", "unknown", null };
+	private static final String[] FLIGHTS = { "never", "occasionally", "very-frequently", "unknown", null };
+
+	@Test
+	void batchRowsMatchSingleScores() {
+		int rows = 500;
+		SubmissionData[] answers = randomAnswers(rows, new Random(42));
+		BatchScore batch = CarbonScoringEngine.scoreBatch(toBatch(answers));
+
+		for (int r = 0; r < rows; r++) {
+			assertRowMatches(batch, r, CarbonScoringEngine.score(answers[r]));
+		}
+	}
+
+	@Test
+	void parallelBatchMatchesSingleScores() {
+		int rows = CarbonScoringEngine.PARALLEL_THRESHOLD * 3 + 7;
+		SubmissionData[] answers = randomAnswers(rows, new Random(7));
+		BatchScore batch = CarbonScoringEngine.scoreBatch(toBatch(answers), ForkJoinPool.commonPool());
+
+		for (int r = 0; r < rows; r++) {
+			assertRowMatches(batch, r, CarbonScoringEngine.score(answers[r]));
+		}
+	}
+
+	@Test
+	void readsTheBuiltInFactorFile() throws IOException {
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream(EmissionFactorModel.BUILT_IN)) {
+			EmissionFactorModel model = EmissionFactorModel.read(in);
+
+			assertThat(model.getVersion()).isNotBlank();
+			assertThat(model.factor(EmissionCategory.TRANSPORTATION, "car-petrol"))
+					.isEqualTo(model.factor(EmissionCategory.TRANSPORTATION, "car-gasoline"));
+		}
+	}
+
+	@Test
+	void everyOfferedOptionHasItsOwnFactor() {
+		// an unmapped option would silently score the category default
+		EmissionFactorModel model = EmissionFactorModel.builtIn();
+		for (Inquiry inquiry : EnvironmentalImpactCalculator.QUESTIONS) {
+			EmissionCategory category = Arrays.stream(EmissionCategory.VALUES)
+					.filter(c -> c.key().equals(inquiry.id))
+					.findFirst()
+					.orElseThrow(() -> new AssertionError("No category for inquiry " + inquiry.id));
+
+			assertThat(model.optionKeys[category.ordinal()]).as(inquiry.id)
+					.contains(inquiry.availableOptions.stream().map(option -> option.identifier).toArray(String[]::new));
+		}
+	}
+
+	@Test
+	void rejectsAFileWithoutVersion() {
+		assertRejected(root -> root.remove("version"), "version");
+	}
+
+	@Test
+	void rejectsAFileMissingACategory() {
+		assertRejected(root -> ((ObjectNode) root.get("categories")).remove(EmissionCategory.GARDEN.key()),
+				EmissionCategory.GARDEN.key());
+	}
+
+	@Test
+	void rejectsANonNumericFactor() {
+		assertRejected(root -> ((ObjectNode) root.get("categories").get("diet").get("factors")).put("vegan", "low"),
+				"diet.vegan");
+	}
+
+	@Test
+	void rejectsAnAliasToAnUnknownOption() {
+		assertRejected(root -> ((ObjectNode) root.get("categories").get("diet").get("aliases")).put("plants", "raw"),
+				"plants");
+	}
+
+	@Test
+	void rejectsReversedImpactLimits() {
+		assertRejected(root -> ((ObjectNode) root.get("impactLimits")).put("low", 900), "impactLimits");
+	}
+
+	private static void assertRowMatches(BatchScore batch, int row, CarbonScore single) {
+		for (EmissionCategory category : EmissionCategory.VALUES) {
+			assertThat(batch.get(category, row)).as("row %d %s", row, category.key()).isEqualTo(single.get(category));
+		}
+		assertThat(batch.getTotals()[row]).as("row %d total", row).isEqualTo(single.getTotalScore());
+		assertThat(batch.getImpactCategories()[row]).as("row %d impact", row).isEqualTo(single.getImpactCategory());
+		assertThat(batch.getModelVersion()).isEqualTo(single.getModelVersion());
+	}
+
+	private static void assertRejected(Consumer<ObjectNode> damage, String message) {
+		ObjectNode root;
+		try (InputStream in = CarbonScoringEngineTests.class.getClassLoader()
+				.getResourceAsStream(EmissionFactorModel.BUILT_IN)) {
+			root = (ObjectNode) MAPPER.readTree(in);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		damage.accept(root);
+
+		assertThatThrownBy(() -> EmissionFactorModel.read(new ByteArrayInputStream(MAPPER.writeValueAsBytes(root))))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining(message);
+	}
+
+	private static SubmissionData[] randomAnswers(int rows, Random random) {
+		SubmissionData[] answers = new SubmissionData[rows];
+		for (int r = 0; r < rows; r++) {
+			SubmissionData data = new SubmissionData();
+			data.transportationType = pick(TRANSPORT, random);
+			data.transportationFrequency = pick(FREQUENCY, random);
+			data.transportationDistance = pick(DISTANCE, random);
+			data.electricityUnits = pick(LEVEL, random);
+			data.renewableEnergy = random.nextBoolean();
+			data.waterUsage = pick(LEVEL, random);
+			data.dietType = pick(DIET, random);
+			data.foodWasteLevel = pick(WASTE, random);
+			data.clothesPerMonth = pick(CLOTHES, random);
+			data.recyclingHabits = pick(RECYCLING, random);
+			data.streamingHabits = pick(USAGE, random);
+			data.airTravelFreq = pick(FLIGHTS, random);
+			data.applianceUsage = pick(USAGE, random);
+			answers[r] = data;
+		}
+		return answers;
+	}
+
+	private static SubmissionBatch toBatch(SubmissionData[] answers) {
+		int rows = answers.length;
+		SubmissionBatch batch = new SubmissionBatch();
+		batch.setTransportationType(new String[rows]);
+		batch.setTransportationFrequency(new String[rows]);
+		batch.setTransportationDistance(new String[rows]);
+		batch.setElectricityUnits(new String[rows]);
+		batch.setRenewableEnergy(new boolean[rows]);
+		batch.setWaterUsage(new String[rows]);
+		batch.setDietType(new String[rows]);
+		batch.setFoodWasteLevel(new String[rows]);
+		batch.setClothesPerMonth(new String[rows]);
+		batch.setRecyclingHabits(new String[rows]);
+		batch.setStreamingHabits(new String[rows]);
+		batch.setAirTravelFreq(new String[rows]);
+		batch.setApplianceUsage(new String[rows]);
+		for (int r = 0; r < rows; r++) {
+			SubmissionData data = answers[r];
+			batch.getTransportationType()[r] = data.transportationType;
+			batch.getTransportationFrequency()[r] = data.transportationFrequency;
+			batch.getTransportationDistance()[r] = data.transportationDistance;
+			batch.getElectricityUnits()[r] = data.electricityUnits;
+			batch.getRenewableEnergy()[r] = data.renewableEnergy;
+			batch.getWaterUsage()[r] = data.waterUsage;
+			batch.getDietType()[r] = data.dietType;
+			batch.getFoodWasteLevel()[r] = data.foodWasteLevel;
+			batch.getClothesPerMonth()[r] = data.clothesPerMonth;
+			batch.getRecyclingHabits()[r] = data.recyclingHabits;
+			batch.getStreamingHabits()[r] = data.streamingHabits;
+			batch.getAirTravelFreq()[r] = data.airTravelFreq;
+			batch.getApplianceUsage()[r] = data.applianceUsage;
+		}
+		return batch;
+	}
+
+	private static String pick(String[] options, Random random) {
+		return options[random.nextInt(options.length)];
+	}
+}
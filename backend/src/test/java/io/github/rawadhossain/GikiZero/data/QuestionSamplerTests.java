@@ -0,0 +1,110 @@
+package io.github.rawadhossain.GikiZero.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuestionSamplerTests {
+
+	private static final List<Integer> ITEMS = IntStream.range(0, 50).boxed().toList();
+
+	// Even items weigh their value, odd items nothing
+	private static double evenOnly(Integer item) {
+		return item % 2 == 0 ? item + 1 : 0;
+	}
+
+	@Test
+	void sameSeedDrawsTheSameSample() {
+		assertThat(QuestionSampler.sample(ITEMS, 10, new SplittableRandom(7)))
+				.isEqualTo(QuestionSampler.sample(ITEMS, 10, new SplittableRandom(7)));
+		assertThat(QuestionSampler.sample(ITEMS, QuestionSamplerTests::evenOnly, 10, new SplittableRandom(7)))
+				.isEqualTo(QuestionSampler.sample(ITEMS, QuestionSamplerTests::evenOnly, 10, new SplittableRandom(7)));
+		assertThat(QuestionSampler.sample(byCategory(), quotas(3, 3), QuestionSamplerTests::evenOnly,
+				new SplittableRandom(7)))
+				.isEqualTo(QuestionSampler.sample(byCategory(), quotas(3, 3), QuestionSamplerTests::evenOnly,
+						new SplittableRandom(7)));
+	}
+
+	@Test
+	void neverDrawsAnItemTwice() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int run = 0; run < 200; run++) {
+			assertThat(QuestionSampler.sample(ITEMS, 20, random)).hasSize(20).doesNotHaveDuplicates();
+			assertThat(QuestionSampler.sample(ITEMS, item -> item + 1.0, 20, random)).hasSize(20).doesNotHaveDuplicates();
+		}
+		assertThat(QuestionSampler.sample(ITEMS, ITEMS.size(), random)).containsExactlyInAnyOrderElementsOf(ITEMS);
+	}
+
+	@Test
+	void neverDrawsZeroWeightItems() {
+		SplittableRandom random = new SplittableRandom(2);
+		for (int run = 0; run < 200; run++) {
+			assertThat(QuestionSampler.sample(ITEMS, QuestionSamplerTests::evenOnly, 10, random))
+					.hasSize(10)
+					.allMatch(item -> item % 2 == 0);
+		}
+		// asking for more than there are positive weights returns only those
+		assertThat(QuestionSampler.sample(ITEMS, QuestionSamplerTests::evenOnly, ITEMS.size(), random))
+				.containsExactlyInAnyOrderElementsOf(ITEMS.stream().filter(item -> item % 2 == 0).toList());
+		assertThat(QuestionSampler.sample(ITEMS, item -> Double.NaN, 5, random)).isEmpty();
+	}
+
+	@Test
+	void quotaLargerThanItsCategoryTakesTheWholeCategory() {
+		List<Integer> drawn = QuestionSampler.sample(byCategory(), quotas(2, 100), item -> 1.0,
+				new SplittableRandom(3));
+
+		assertThat(drawn).hasSize(2 + 10).doesNotHaveDuplicates();
+		assertThat(drawn).containsAll(byCategory().get("b"));
+	}
+
+	@Test
+	void quotaForAMissingCategoryDrawsNothing() {
+		Map<String, Integer> quotas = new LinkedHashMap<>(quotas(2, 2));
+		quotas.put("missing", 5);
+
+		assertThat(QuestionSampler.sample(byCategory(), quotas, item -> 1.0, new SplittableRandom(4))).hasSize(4);
+	}
+
+	@Test
+	void kOutOfRangeIsClamped() {
+		assertThat(QuestionSampler.sample(ITEMS, 0, new SplittableRandom(5))).isEmpty();
+		assertThat(QuestionSampler.sample(ITEMS, -3, new SplittableRandom(5))).isEmpty();
+		assertThat(QuestionSampler.sample(ITEMS, 500, new SplittableRandom(5))).hasSize(ITEMS.size());
+	}
+
+	@Test
+	void samplesAreUnmodifiable() {
+		SplittableRandom random = new SplittableRandom(6);
+		List<List<Integer>> samples = List.of(
+				QuestionSampler.sample(ITEMS, 5, random),
+				QuestionSampler.sample(ITEMS, QuestionSamplerTests::evenOnly, 5, random),
+				QuestionSampler.sample(byCategory(), quotas(2, 2), item -> 1.0, random));
+
+		for (List<Integer> sample : samples) {
+			assertThatThrownBy(() -> sample.set(0, -1)).isInstanceOf(UnsupportedOperationException.class);
+			assertThatThrownBy(() -> sample.add(-1)).isInstanceOf(UnsupportedOperationException.class);
+		}
+	}
+
+	// "a" holds 0..19, "b" holds 100..109
+	private static Map<String, List<Integer>> byCategory() {
+		return Map.of(
+				"a", IntStream.range(0, 20).boxed().toList(),
+				"b", IntStream.range(100, 110).boxed().toList());
+	}
+
+	private static Map<String, Integer> quotas(int a, int b) {
+		Map<String, Integer> quotas = new LinkedHashMap<>();
+		quotas.put("a", a);
+		quotas.put("b", b);
+		return quotas;
+	}
+}
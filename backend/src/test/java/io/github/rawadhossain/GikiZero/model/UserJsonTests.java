@@ -0,0 +1,45 @@
+package io.github.rawadhossain.GikiZero.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A User that reaches a response body must not carry its password hash or
+ * drag its lazy collections into serialization, while a request body may
+ * still set the password.
+ */
+class UserJsonTests {
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	void passwordAndCollectionsAreNotWritten() {
+		User user = new User();
+		user.setId("u1");
+		user.setName("User 1");
+		user.setPassword("secret");
+
+		JsonNode json = mapper.valueToTree(user);
+
+		assertThat(json.get("id").asText()).isEqualTo("u1");
+		assertThat(json.get("name").asText()).isEqualTo("User 1");
+		assertThat(json.has("password")).isFalse();
+		assertThat(json.has("accounts")).isFalse();
+		assertThat(json.has("sessions")).isFalse();
+		assertThat(json.has("submissions")).isFalse();
+		assertThat(json.has("badges")).isFalse();
+		assertThat(json.has("aiTips")).isFalse();
+		assertThat(json.has("reports")).isFalse();
+	}
+
+	@Test
+	void passwordIsRead() throws Exception {
+		User user = mapper.readValue("{\"id\": \"u1\", \"password\": \"secret\"}", User.class);
+
+		assertThat(user.getPassword()).isEqualTo("secret");
+	}
+}
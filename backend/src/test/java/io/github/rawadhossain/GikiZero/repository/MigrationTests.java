@@ -0,0 +1,51 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A database created by the old {@code ddl-auto=update} holds exactly the V1
+ * schema and no Flyway history. It is baselined at V1, as configured in
+ * application.properties, and must still get every later table, with the
+ * rollups and buckets of its existing submissions filled in.
+ */
+class MigrationTests {
+
+	@Test
+	void baselinedDatabaseGetsEveryLaterMigration() throws Exception {
+		try (EmbeddedPostgres postgres = EmbeddedPostgres.start()) {
+			DataSource dataSource = postgres.getPostgresDatabase();
+			try (Connection connection = dataSource.getConnection()) {
+				ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline_schema.sql"));
+			}
+			JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+			jdbc.update("INSERT INTO users (id, onboarding_completed, current_streak, longest_streak, total_points)"
+					+ " VALUES ('u1', true, 0, 0, 0)");
+			jdbc.update("INSERT INTO submissions (id, user_id, transportation_score, renewable_energy, energy_score,"
+					+ " water_score, diet_score, food_waste_score, shopping_score, waste_score, electronics_score,"
+					+ " travel_score, appliance_score, total_emission_score, created_at)"
+					+ " VALUES ('s1', 'u1', 1, false, 2, 0, 0, 0, 0, 0, 0, 0, 0, 3, '2025-03-12 10:00')");
+
+			Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+			assertThat(jdbc.queryForObject("SELECT count(*) FROM rescore_checkpoints", Long.class)).isZero();
+			assertThat(jdbc.queryForMap("SELECT submission_count, score_sum, energy_sum FROM user_emission_rollup"
+					+ " WHERE user_id = 'u1'"))
+					.containsEntry("submission_count", 1L)
+					.containsEntry("score_sum", 3.0)
+					.containsEntry("energy_sum", 2.0);
+			assertThat(jdbc.queryForList("SELECT granularity || ' ' || bucket_start FROM emission_buckets"
+					+ " WHERE user_id = 'u1' AND category = 'total' ORDER BY granularity", String.class))
+					.containsExactly("DAY 2025-03-12", "MONTH 2025-03-01", "WEEK 2025-03-10");
+		}
+	}
+}
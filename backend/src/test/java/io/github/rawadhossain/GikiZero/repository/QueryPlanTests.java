@@ -0,0 +1,247 @@
+package io.github.rawadhossain.GikiZero.repository;
+
+import io.github.rawadhossain.GikiZero.AbstractDatabaseTests;
+import io.github.rawadhossain.GikiZero.StatementRecorder;
+import io.github.rawadhossain.GikiZero.model.EmissionBucket;
+import io.github.rawadhossain.GikiZero.service.EmissionBucketService;
+import io.github.rawadhossain.GikiZero.service.ExpiredRowReaper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records the SQL the hot repository methods and the reaper actually send,
+ * with their bound parameters, and checks with {@code EXPLAIN} that it is
+ * answered from the V5..V10 indexes. The planner runs with its default
+ * settings against tables seeded and analyzed at a realistic shape: many
+ * users with a few dozen rows each, one user with a long history, and only
+ * a sliver of sessions and tokens expired. A page of the long history must
+ * come out of its index already ordered, without a Sort; a list shorter
+ * than a page may be sorted after the index lookup, which is what the
+ * planner picks for it.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTests extends AbstractDatabaseTests {
+
+	private static final Limit PAGE = Limit.of(21);
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private SubmissionRepository submissionRepository;
+
+	@Autowired
+	private ReportRepository reportRepository;
+
+	@Autowired
+	private AiTipRepository aiTipRepository;
+
+	@Autowired
+	private UserBadgeRepository userBadgeRepository;
+
+	@Autowired
+	private SessionRepository sessionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EmissionBucketRepository bucketRepository;
+
+	@Autowired
+	private EmissionBucketService bucketService;
+
+	@Autowired
+	private ExpiredRowReaper reaper;
+
+	// 1000 users with 20 submissions, 5 reports, 5 tips, 3 badges and 2 sessions each, spread over the last year;
+	// u1 has 2000 more submissions and 200 more reports
+	@BeforeAll
+	void seed() {
+		jdbc.execute("TRUNCATE users, badge, verification_token, emission_buckets, user_emission_rollup CASCADE");
+		jdbc.update("INSERT INTO users (id, onboarding_completed, current_streak, longest_streak, total_points,"
+				+ " created_at) SELECT 'u' || i, true, 0, 0, 0, now() - i * interval '1 hour'"
+				+ " FROM generate_series(1, 1000) i");
+		jdbc.update("INSERT INTO submissions (id, user_id, transportation_score, renewable_energy, energy_score,"
+				+ " water_score, diet_score, food_waste_score, shopping_score, waste_score, electronics_score,"
+				+ " travel_score, appliance_score, total_emission_score, created_at)"
+				+ " SELECT 's' || i, 'u' || (i % 1000 + 1), 0, false, 0, 0, 0, 0, 0, 0, 0, 0, 0, i % 500,"
+				+ " now() - (i % 365) * interval '1 day' FROM generate_series(1, 20000) i");
+		jdbc.update("INSERT INTO submissions (id, user_id, transportation_score, renewable_energy, energy_score,"
+				+ " water_score, diet_score, food_waste_score, shopping_score, waste_score, electronics_score,"
+				+ " travel_score, appliance_score, total_emission_score, created_at)"
+				+ " SELECT 'h' || i, 'u1', 0, false, 0, 0, 0, 0, 0, 0, 0, 0, 0, i % 500,"
+				+ " now() - i * interval '1 hour' FROM generate_series(1, 2000) i");
+		jdbc.update("INSERT INTO reports (id, type, user_id, created_at, status)"
+				+ " SELECT 'r' || i, 'PDF', 'u' || (i % 1000 + 1), now() - (i % 365) * interval '1 day', 'COMPLETED'"
+				+ " FROM generate_series(1, 5000) i");
+		jdbc.update("INSERT INTO reports (id, type, user_id, created_at, status)"
+				+ " SELECT 'hr' || i, 'PDF', 'u1', now() - i * interval '1 day', 'COMPLETED'"
+				+ " FROM generate_series(1, 200) i");
+		jdbc.update("INSERT INTO ai_tip (id, title, user_id, created_at)"
+				+ " SELECT 't' || i, 'Tip', 'u' || (i % 1000 + 1), now() - (i % 365) * interval '1 day'"
+				+ " FROM generate_series(1, 5000) i");
+		jdbc.update("INSERT INTO badge (id, name) SELECT 'b' || i, 'Badge ' || i FROM generate_series(1, 20) i");
+		jdbc.update("INSERT INTO user_badge (id, earned_at, user_id, badge_id)"
+				+ " SELECT 'ub' || u || '-' || b, now(), 'u' || u, 'b' || ((u + b) % 20 + 1)"
+				+ " FROM generate_series(1, 1000) u, generate_series(1, 3) b");
+		jdbc.update("INSERT INTO session (id, session_token, expires, user_id)"
+				+ " SELECT 'se' || i, 'token' || i, now() + (i % 300 - 3) * interval '1 day', 'u' || (i % 1000 + 1)"
+				+ " FROM generate_series(1, 2000) i");
+		jdbc.update("INSERT INTO verification_token (id, identifier, token, expires)"
+				+ " SELECT 'vt' || i, 'user' || i || '@example.com', 'vt' || i, now() + (i % 300 - 3) * interval '1 hour'"
+				+ " FROM generate_series(1, 2000) i");
+		bucketService.rebuildAll();
+		jdbc.execute("ANALYZE");
+	}
+
+	@Test
+	void submissionHistoryByUser() throws Exception {
+		assertIndexScan("submissions", "idx_submissions_user_created",
+				() -> submissionRepository.findByUser_IdOrderByCreatedAtDesc("u2"));
+		assertIndexScan("submissions", "idx_submissions_user_created",
+				() -> submissionRepository.findByUser_IdAndCreatedAtAfterOrderByCreatedAtDesc("u2",
+						LocalDateTime.now().minusDays(30)));
+	}
+
+	@Test
+	void submissionPagesByUser() throws Exception {
+		assertOrderedIndexScan("submissions", "idx_submissions_user_created",
+				() -> submissionRepository.findByUser_IdOrderByCreatedAtDescIdDesc("u1", ScrollPosition.keyset(),
+						PAGE, SubmissionSummary.class));
+		assertOrderedIndexScan("submissions", "idx_submissions_user_created",
+				() -> submissionRepository.findByUser_IdOrderByCreatedAtDescIdDesc("u1", secondPage(), PAGE,
+						SubmissionSummary.class));
+		assertOrderedIndexScan("submissions", "idx_submissions_user_created",
+				() -> submissionRepository.findByUser_IdAndCreatedAtAfterOrderByCreatedAtDescIdDesc("u1",
+						LocalDateTime.now().minusDays(90), secondPage(), PAGE, SubmissionSummary.class));
+		// a user with fewer rows than a page may have them sorted, but still found through the index
+		assertIndexScan("submissions", "idx_submissions_user_created",
+				() -> submissionRepository.findByUser_IdOrderByCreatedAtDescIdDesc("u2", ScrollPosition.keyset(),
+						PAGE, SubmissionSummary.class));
+	}
+
+	@Test
+	void submissionPages() throws Exception {
+		assertOrderedIndexScan("submissions", "idx_submissions_created",
+				() -> submissionRepository.findAllByOrderByCreatedAtDescIdDesc(secondPage(), PAGE,
+						SubmissionSummary.class));
+	}
+
+	@Test
+	void reportsByUser() throws Exception {
+		assertIndexScan("reports", "idx_reports_user_created", () -> reportRepository.findByUser_Id("u2"));
+		assertOrderedIndexScan("reports", "idx_reports_user_created",
+				() -> reportRepository.findByUser_IdOrderByCreatedAtDescIdDesc("u1", ScrollPosition.keyset(), PAGE,
+						ReportSummary.class));
+	}
+
+	@Test
+	void reportPages() throws Exception {
+		assertOrderedIndexScan("reports", "idx_reports_created",
+				() -> reportRepository.findAllByOrderByCreatedAtDescIdDesc(secondPage(), PAGE, ReportSummary.class));
+	}
+
+	@Test
+	void tipsByUser() throws Exception {
+		assertIndexScan("ai_tip", "idx_ai_tip_user_created", () -> aiTipRepository.findByUser_Id("u1"));
+	}
+
+	@Test
+	void badgesByUser() throws Exception {
+		// served by the leading column of the (user_id, badge_id) unique index
+		assertIndexScan("user_badge", "user_badge_user_id_badge_id_key", () -> userBadgeRepository.findByUserId("u1"));
+	}
+
+	@Test
+	void sessionsByUser() throws Exception {
+		assertIndexScan("session", "idx_session_user", () -> sessionRepository.findByUserId("u1"));
+	}
+
+	@Test
+	void expiredRows() throws Exception {
+		List<StatementRecorder.Statement> statements = StatementRecorder.record(() -> {
+			reaper.purgeExpired();
+			return null;
+		});
+
+		assertThat(statements).extracting(StatementRecorder.Statement::sql)
+				.anyMatch(sql -> sql.contains("DELETE FROM session"))
+				.anyMatch(sql -> sql.contains("DELETE FROM verification_token"));
+		for (StatementRecorder.Statement statement : statements) {
+			String table = statement.sql().contains("verification_token") ? "verification_token" : "session";
+			assertPlan(table, "idx_" + table + "_expires", statement, false);
+		}
+	}
+
+	@Test
+	void userPages() throws Exception {
+		assertOrderedIndexScan("users", "idx_users_created",
+				() -> userRepository.findAllByOrderByCreatedAtDescIdDesc(secondPage(), PAGE, UserSummary.class));
+	}
+
+	@Test
+	void exportPages() throws Exception {
+		assertOrderedIndexScan("users", "users_pkey",
+				() -> userRepository.findByIdGreaterThanOrderByIdAsc("u1", Limit.of(200)));
+		assertIndexScan("submissions", "idx_submissions_user_created",
+				() -> submissionRepository.findByUser_IdInAndCreatedAtAfterOrderByCreatedAtDesc(List.of("u1", "u2"),
+						LocalDateTime.now().minusDays(90)));
+		assertIndexScan("ai_tip", "idx_ai_tip_user_created", () -> aiTipRepository.findByUser_IdIn(List.of("u1", "u2")));
+	}
+
+	@Test
+	void trendSeries() throws Exception {
+		assertIndexScan("emission_buckets", "emission_buckets_pkey",
+				() -> bucketRepository.findByUserIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc("u1",
+						EmissionBucket.Granularity.WEEK, LocalDate.now().minusMonths(6), LocalDate.now()));
+	}
+
+	// Keyset position of a page that starts a month back, as CursorPage would decode it
+	private static ScrollPosition secondPage() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("createdAt", LocalDateTime.now().minusMonths(1));
+		keys.put("id", "s5000");
+		return ScrollPosition.forward(keys);
+	}
+
+	private void assertIndexScan(String table, String index, Callable<?> query) throws Exception {
+		assertPlans(table, index, query, false);
+	}
+
+	private void assertOrderedIndexScan(String table, String index, Callable<?> query) throws Exception {
+		assertPlans(table, index, query, true);
+	}
+
+	private void assertPlans(String table, String index, Callable<?> query, boolean ordered) throws Exception {
+		List<StatementRecorder.Statement> statements = StatementRecorder.record(query);
+
+		assertThat(statements).as("statements").hasSize(1);
+		assertPlan(table, index, statements.get(0), ordered);
+	}
+
+	private void assertPlan(String table, String index, StatementRecorder.Statement statement, boolean ordered) {
+		String plan = statement.explain(jdbc);
+
+		assertThat(plan).as(statement.sql())
+				.containsPattern("(Index (Only )?Scan( Backward)? using|Bitmap Index Scan on) " + index + " ")
+				.doesNotContain("Seq Scan on " + table + " ");
+		if (ordered) {
+			assertThat(plan).as(statement.sql()).doesNotContain("Sort");
+		}
+	}
+}
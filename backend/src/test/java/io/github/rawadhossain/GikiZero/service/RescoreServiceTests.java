@@ -0,0 +1,66 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.AbstractDatabaseTests;
+import io.github.rawadhossain.GikiZero.data.SubmissionBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rescoring with an unchanged factor model must leave every score as it
+ * was, including rows imported through the batch endpoint with answers
+ * the submissions table doesn't keep.
+ */
+class RescoreServiceTests extends AbstractDatabaseTests {
+
+	private static final String SCORES = "SELECT id, transportation_score, energy_score, diet_score, water_score,"
+			+ " total_emission_score, impact_category FROM submissions ORDER BY id";
+
+	@Autowired
+	private SubmissionService submissionService;
+
+	@Autowired
+	private RescoreService rescoreService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void seed() {
+		jdbc.execute("TRUNCATE users, rescore_checkpoints CASCADE");
+		for (String id : new String[] { "u1", "u2" }) {
+			jdbc.update("INSERT INTO users (id, onboarding_completed, current_streak, longest_streak, total_points)"
+					+ " VALUES (?, true, 0, 0, 0)", id);
+		}
+	}
+
+	@Test
+	void rescoringBatchImportedRowsKeepsTheirScores() {
+		SubmissionBatch batch = new SubmissionBatch();
+		batch.setUserId(new String[] { "u1", "u2", "u1" });
+		batch.setTransportationType(new String[] { "car-gasoline", "bicycle", null });
+		batch.setTransportationFrequency(new String[] { "daily", "weekly", null });
+		batch.setTransportationDistance(new String[] { "long", "short", null });
+		batch.setElectricityUnits(new String[] { "high", null, "low" });
+		batch.setRenewableEnergy(new boolean[] { true, false, false });
+		batch.setDietType(new String[] { "omnivore", "vegan", null });
+		batch.setWaterUsage(new String[] { "medium", null, "high" });
+		batch.setHomeSize(new String[] { "4+", "studio", "2-bedroom" });
+		batch.setHeatingType(new String[] { "oil", "gas", null });
+		batch.setPetOwnership(new String[] { "large", null, "small" });
+		submissionService.createSubmissions(batch);
+		List<Map<String, Object>> imported = jdbc.queryForList(SCORES);
+
+		rescoreService.run("rescore-test");
+
+		assertThat(rescoreService.getProgress().getState()).isEqualTo(RescoreProgress.State.COMPLETED);
+		assertThat(rescoreService.getProgress().getRowsDone()).isEqualTo(3);
+		assertThat(jdbc.queryForList(SCORES)).isEqualTo(imported);
+	}
+}
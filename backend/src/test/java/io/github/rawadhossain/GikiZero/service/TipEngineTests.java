@@ -0,0 +1,231 @@
+package io.github.rawadhossain.GikiZero.service;
+
+import io.github.rawadhossain.GikiZero.data.EmissionCategory;
+import io.github.rawadhossain.GikiZero.data.LlmTipProvider;
+import io.github.rawadhossain.GikiZero.data.RuleTipEngine;
+import io.github.rawadhossain.GikiZero.data.TipContent;
+import io.github.rawadhossain.GikiZero.data.TipProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The bundled rules and the background LLM enrichment, with a local stub in
+ * place of a real model.
+ */
+class TipEngineTests {
+
+	private static RuleTipEngine rules;
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final List<TipEnricher> enrichers = new ArrayList<>();
+
+	@BeforeAll
+	static void loadRules() throws IOException {
+		try (InputStream in = RuleTipEngine.class.getClassLoader().getResourceAsStream(RuleTipEngine.BUILT_IN)) {
+			rules = RuleTipEngine.read(in);
+		}
+	}
+
+	@AfterEach
+	void shutdown() {
+		enrichers.forEach(TipEnricher::shutdown);
+	}
+
+	@Test
+	void rulesRankCategoriesByContribution() {
+		TipProfile profile = profile("", EmissionCategory.TRAVEL, 300, EmissionCategory.DIET, 120,
+				EmissionCategory.PETS, 20, EmissionCategory.GARDEN, 0);
+
+		List<TipContent> tips = rules.generate(profile);
+
+		assertThat(tips).extracting(TipContent::getCategory).containsExactly("Travel", "Diet", "Pets");
+		assertThat(tips).extracting(TipContent::getTitle)
+				.containsExactly("Cut Down on Flights", "Eat Less Red Meat", "Avoid Overfeeding Pets");
+		assertThat(tips).extracting(TipContent::getImpact).containsExactly("High", "High", "Low");
+	}
+
+	@Test
+	void rulesPutTheImpactCategoryFirst() {
+		TipProfile profile = profile("energy", EmissionCategory.TRAVEL, 300, EmissionCategory.ENERGY, 40);
+
+		List<TipContent> tips = rules.generate(profile);
+
+		assertThat(tips).extracting(TipContent::getCategory).containsExactly("Energy", "Travel");
+		assertThat(tips.get(0).getTitle()).isEqualTo("Cut Standby Power");
+	}
+
+	@Test
+	void rulesSkipCategoriesWithoutScore() {
+		assertThat(rules.generate(profile(""))).isEmpty();
+	}
+
+	@Test
+	void enrichmentReturnsProviderTips() throws Exception {
+		TipContent rich = new TipContent("Fly less", "One trip by train", "Travel", "High", "Stub");
+		TipEnricher enricher = enricher(() -> List.of(rich), 1000, 2, new CircuitBreaker(3, 60000));
+
+		List<TipContent> tips = enricher.enrich("p1", profile(""), List.of()).orElseThrow().get(1, TimeUnit.SECONDS);
+
+		assertThat(tips).containsExactly(rich);
+		assertThat(registry.counter("gikizero.tips.llm", "outcome", "success").count()).isEqualTo(1);
+	}
+
+	@Test
+	void slowProviderTimesOut() {
+		CountDownLatch never = new CountDownLatch(1);
+		TipEnricher enricher = enricher(() -> {
+			never.await();
+			return List.of();
+		}, 50, 1, new CircuitBreaker(3, 60000));
+
+		CompletableFuture<List<TipContent>> call = enricher.enrich("p1", profile(""), List.of()).orElseThrow();
+
+		assertThatThrownBy(() -> call.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(TimeoutException.class);
+		assertThat(registry.counter("gikizero.tips.llm", "outcome", "timeout").count()).isEqualTo(1);
+	}
+
+	@Test
+	void callsBeyondTheLimitAreNotQueued() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		TipEnricher enricher = enricher(() -> {
+			calls.incrementAndGet();
+			release.await();
+			return List.of();
+		}, 1000, 1, new CircuitBreaker(3, 60000));
+
+		CompletableFuture<List<TipContent>> first = enricher.enrich("p1", profile(""), List.of()).orElseThrow();
+		assertThat(enricher.enrich("p2", profile(""), List.of())).isEmpty();
+		release.countDown();
+		first.get(1, TimeUnit.SECONDS);
+
+		assertThat(calls).hasValue(1);
+		assertThat(registry.counter("gikizero.tips.llm", "outcome", "rejected").count()).isEqualTo(1);
+	}
+
+	@Test
+	void sameProfileIsOnlyEnrichedOnce() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		TipEnricher enricher = enricher(() -> {
+			release.await();
+			return List.of();
+		}, 1000, 2, new CircuitBreaker(3, 60000));
+
+		CompletableFuture<List<TipContent>> first = enricher.enrich("p1", profile(""), List.of()).orElseThrow();
+		assertThat(enricher.enrich("p1", profile(""), List.of())).isEmpty();
+		release.countDown();
+		first.get(1, TimeUnit.SECONDS);
+
+		assertThat(enricher.enrich("p1", profile(""), List.of())).isPresent();
+	}
+
+	@Test
+	void callTimedOutInTheQueueGivesBackItsPermit() throws Exception {
+		CountDownLatch answer = new CountDownLatch(1);
+		TipEnricher enricher = enricher(() -> {
+			answer.await();
+			return List.of();
+		}, 200, 1, new CircuitBreaker(3, 60000));
+
+		// a callback on the first call holds the only provider thread after its permit is back
+		CompletableFuture<Void> inCallback = new CompletableFuture<>();
+		CompletableFuture<Void> hold = new CompletableFuture<>();
+		CompletableFuture<Void> first = enricher.enrich("p1", profile(""), List.of()).orElseThrow()
+				.thenAccept(tips -> {
+					inCallback.complete(null);
+					hold.join();
+				});
+		answer.countDown();
+		inCallback.get(1, TimeUnit.SECONDS);
+
+		CompletableFuture<List<TipContent>> queued = enricher.enrich("p2", profile(""), List.of()).orElseThrow();
+		assertThatThrownBy(() -> queued.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+		hold.complete(null);
+		first.get(1, TimeUnit.SECONDS);
+
+		enricher.enrich("p3", profile(""), List.of()).orElseThrow().get(1, TimeUnit.SECONDS);
+		assertThat(registry.counter("gikizero.tips.llm", "outcome", "rejected").count()).isZero();
+	}
+
+	@Test
+	void breakerOpensAfterFailuresAndClosesAfterTrial() throws Exception {
+		AtomicLong now = new AtomicLong();
+		AtomicInteger failures = new AtomicInteger(2);
+		TipEnricher enricher = enricher(() -> {
+			if (failures.getAndDecrement() > 0) {
+				throw new IllegalStateException("model unavailable");
+			}
+			return List.of();
+		}, 1000, 1, new CircuitBreaker(2, 100, now::get));
+
+		for (int i = 0; i < 2; i++) {
+			CompletableFuture<List<TipContent>> call = enricher.enrich("p" + i, profile(""), List.of()).orElseThrow();
+			assertThatThrownBy(() -> call.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+		}
+		assertThat(enricher.getBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(enricher.enrich("p2", profile(""), List.of())).isEmpty();
+		assertThat(registry.counter("gikizero.tips.llm", "outcome", "open").count()).isEqualTo(1);
+
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+		enricher.enrich("p3", profile(""), List.of()).orElseThrow().get(1, TimeUnit.SECONDS);
+		assertThat(enricher.getBreakerState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void noProviderMeansNoEnrichment() {
+		TipEnricher enricher = enricher(null, 1000, 1, new CircuitBreaker(1, 1000));
+
+		assertThat(enricher.isEnabled()).isFalse();
+		assertThat(enricher.enrich("p1", profile(""), List.of())).isEmpty();
+	}
+
+	// A null reply means no provider is configured
+	private TipEnricher enricher(Callable<List<TipContent>> reply, long timeoutMs, int maxConcurrent,
+								 CircuitBreaker breaker) {
+		LlmTipProvider provider = reply != null ? new StubProvider(reply) : null;
+		TipEnricher enricher = new TipEnricher(provider, registry, timeoutMs, maxConcurrent, breaker);
+		enrichers.add(enricher);
+		return enricher;
+	}
+
+	// Pairs of (category, score), every other category scores zero
+	private static TipProfile profile(String impactCategory, Object... scores) {
+		double[] values = new double[EmissionCategory.COUNT];
+		for (int i = 0; i < scores.length; i += 2) {
+			values[((EmissionCategory) scores[i]).ordinal()] = ((Number) scores[i + 1]).doubleValue();
+		}
+		return new TipProfile(impactCategory, values);
+	}
+
+	// Answers every profile with whatever reply gives, ignoring the prompt
+	private record StubProvider(Callable<List<TipContent>> reply) implements LlmTipProvider {
+		@Override
+		public String version() {
+			return "stub";
+		}
+
+		@Override
+		public List<TipContent> suggest(TipProfile profile, List<TipContent> ruleTips) throws Exception {
+			return reply.call();
+		}
+	}
+}